@@ -0,0 +1,46 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// java -jar target/benchmarks.jar [tùy chọn JMH, vd. PageObjectBenchmark.setText -wi 1 -i 3]
+// Ghi kết quả JSON vào target/jmh/<commit>.json (-Dbench.commit để đặt tên khác) để so sánh giữa các commit
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        String commit = System.getProperty("bench.commit", currentCommit());
+        Path result = Path.of("target", "jmh", commit + ".json");
+        Files.createDirectories(result.getParent());
+
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                // Giữ cấu hình JVM cố định giữa các lần chạy, khác biệt chỉ còn do code
+                .jvmArgsAppend("-Xms512m", "-Xmx512m", "-XX:+UseG1GC")
+                .build()).run();
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+
+    private static String currentCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String sha = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor() == 0 && !sha.isEmpty() ? sha : "local";
+        } catch (IOException e) {
+            return "local";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "local";
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import base.DriverFactory;
+import base.DriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import pages.navigation.AppNavigator;
+import pages.students.FormStudentModal;
+import server.StandInApp;
+
+// Một browser headless + app giả cho mỗi thread benchmark, modal Add Student đã mở sẵn.
+// DriverManager là ThreadLocal nên state phải là Scope.Thread để setup và benchmark chạy cùng thread
+@State(Scope.Thread)
+public class FixtureSession {
+    // Mặc định không bọc driver bằng CommandMetrics để số đo là của framework, không phải của phần đo
+    @Param({"false"})
+    public String metrics;
+
+    @Param({"batch"})
+    public String fillMode;
+
+    protected StandInApp app;
+    protected WebDriver driver;
+    protected FormStudentModal modal;
+
+    @Setup(Level.Trial)
+    public void open() {
+        System.setProperty("metrics", metrics);
+        System.setProperty("form.fillMode", fillMode);
+        app = StandInApp.start(0);
+        System.setProperty("app.url", app.url());
+        System.setProperty("api.url", app.apiUrl());
+
+        driver = DriverFactory.create(DriverFactory.Profile.HEADLESS);
+        DriverManager.setDriver(driver);
+        modal = new AppNavigator(app.url()).openAddStudentModal();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if (driver != null) {
+            driver.quit();
+            DriverManager.unload();
+        }
+        if (app != null) {
+            app.close();
+        }
+    }
+}
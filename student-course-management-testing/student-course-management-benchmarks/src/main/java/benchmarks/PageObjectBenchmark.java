@@ -0,0 +1,95 @@
+package benchmarks;
+
+import base.BasePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import utils.JavacriptUtil;
+
+import java.util.concurrent.TimeUnit;
+
+// Throughput (ops/s) và phân bố latency (SampleTime: p50/p90/p99...) của các thao tác page object chính.
+// Mỗi method chạy trong fork riêng với browser riêng nên không ảnh hưởng lẫn nhau
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(1)
+public class PageObjectBenchmark {
+    private static final By FIRST_NAME = By.id("modal-first-name");
+    private static final By STATUS = By.id("modal-status");
+    private static final By OK_BUTTON = By.id("modal-ok-btn");
+
+    // setText của BasePage là protected, page object tối thiểu để gọi được từ ngoài package
+    static class FieldPage extends BasePage {
+        void type(By locator, String text) {
+            setText(locator, text);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FormSession extends FixtureSession {
+        FieldPage page;
+
+        @Setup(Level.Trial)
+        public void createPage() {
+            page = new FieldPage();
+        }
+    }
+
+    // Form trống đã bấm Create một lần: lỗi validation đang hiển thị dưới mọi field
+    @State(Scope.Thread)
+    public static class ErrorSession extends FixtureSession {
+        @Setup(Level.Trial)
+        public void showErrors() {
+            modal.clickSubmit();
+        }
+    }
+
+    @Benchmark
+    public void setText(FormSession session) {
+        session.page.type(FIRST_NAME, "Minh");
+    }
+
+    @Benchmark
+    public void fillValidStudentForm(FixtureSession session) {
+        session.modal.fillValidStudentForm("Minh", "Hieu", "20", "Male", "minnhiuu@gmail.com", "0703553341",
+                "CS201 - Data Structures and Algorithms", "2024-01-15");
+    }
+
+    @Benchmark
+    public String getValidationErrorMessage(ErrorSession session) {
+        return session.modal.getValidationErrorMessage("first-name");
+    }
+
+    @Benchmark
+    public void selectCourseByText(FixtureSession session) {
+        session.modal.selectCourseByText("CS201 - Data Structures and Algorithms");
+    }
+
+    @Benchmark
+    public boolean isModalVisible(FixtureSession session) {
+        return session.modal.isModalVisible();
+    }
+
+    @Benchmark
+    public void scrollToElement(FixtureSession session) {
+        JavacriptUtil.scrollToElement(OK_BUTTON);
+    }
+
+    @Benchmark
+    public void clickJS(FixtureSession session) {
+        JavacriptUtil.clickJS(STATUS);
+    }
+}
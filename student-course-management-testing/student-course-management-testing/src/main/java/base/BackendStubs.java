@@ -0,0 +1,202 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import utils.Config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Chặn request XHR/fetch của app bằng Fetch domain của CDP và trả lời theo StubRule, để test chỉ kiểm tra phía client
+// không phải đi tới backend thật. Luật cho cả suite (forSuite) áp dụng cho mọi browser; luật cho một test (forTest)
+// gắn với browser test đang giữ và bị xóa khi BaseTest trả browser về pool. Luật của test được xét trước.
+// Fetch chỉ bật khi browser có luật, nên test không dùng stub không phải trả thêm round trip nào.
+// -Dstubs=false để mọi request đi thẳng tới backend
+public final class BackendStubs {
+    private static final List<StubRule> SUITE_RULES = new CopyOnWriteArrayList<>();
+    private static final Map<WebDriver, Optional<BackendStubs>> ENGINES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<StubRule, LongAdder> HITS = new ConcurrentHashMap<>();
+    // Trả lời trễ ở thread riêng để không chặn thread nhận event CDP
+    private static final ScheduledExecutorService DELAYED = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("backend-stubs").daemon(true).factory());
+
+    private static final List<Map<String, Object>> PATTERNS = List.of(
+            Map.of("urlPattern", "*", "resourceType", "XHR", "requestStage", "Request"),
+            Map.of("urlPattern", "*", "resourceType", "Fetch", "requestStage", "Request"));
+
+    private final DevTools devTools;
+    private volatile List<StubRule> testRules = List.of();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private boolean enabled;
+
+    private BackendStubs(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    public static void forSuite(StubRule... rules) {
+        SUITE_RULES.addAll(List.of(rules));
+        engines().forEach(BackendStubs::sync);
+    }
+
+    public static void clearSuite() {
+        SUITE_RULES.clear();
+        engines().forEach(BackendStubs::sync);
+    }
+
+    // Luật cho test đang chạy trên thread này (browser đã được lease trong @BeforeMethod).
+    // Trả về false nếu browser không hỗ trợ CDP: khi đó request vẫn đi tới backend thật
+    public static boolean forTest(StubRule... rules) {
+        Optional<BackendStubs> engine = engine(DriverManager.getDriver());
+        engine.ifPresent(stubs -> {
+            stubs.testRules = List.of(rules);
+            stubs.sync();
+        });
+        return engine.isPresent();
+    }
+
+    // Gọi khi một browser được lease: bật Fetch nếu đang có luật cho cả suite
+    public static void attach(WebDriver driver) {
+        if (!SUITE_RULES.isEmpty()) {
+            engine(driver).ifPresent(BackendStubs::sync);
+        }
+    }
+
+    // Gọi trước khi trả browser về pool: bỏ luật của test vừa chạy
+    public static void release(WebDriver driver) {
+        Optional<BackendStubs> engine = ENGINES.get(driver);
+        if (engine != null && engine.isPresent() && !engine.get().testRules.isEmpty()) {
+            engine.get().testRules = List.of();
+            engine.get().sync();
+        }
+    }
+
+    // Số request đã khớp luật này trên mọi browser, vd. để kiểm tra form không hề gửi POST khi validation lỗi
+    public static long hits(StubRule rule) {
+        LongAdder hits = HITS.get(rule);
+        return hits == null ? 0 : hits.sum();
+    }
+
+    private static Optional<BackendStubs> engine(WebDriver driver) {
+        if (!Config.getBoolean("stubs", true)) {
+            return Optional.empty();
+        }
+        Optional<BackendStubs> engine = ENGINES.get(driver);
+        if (engine != null) {
+            return engine;
+        }
+        // Gửi lệnh CDP ngoài monitor của map; mỗi driver chỉ thuộc một thread nên không có hai lần listen cùng lúc
+        engine = Cdp.session(driver).map(BackendStubs::listen);
+        ENGINES.put(driver, engine);
+        return engine;
+    }
+
+    private static List<BackendStubs> engines() {
+        List<BackendStubs> engines = new ArrayList<>();
+        synchronized (ENGINES) {
+            ENGINES.values().forEach(engine -> engine.ifPresent(engines::add));
+        }
+        return engines;
+    }
+
+    private static BackendStubs listen(DevTools devTools) {
+        BackendStubs stubs = new BackendStubs(devTools);
+        devTools.addListener(Cdp.event("Fetch.requestPaused"), stubs::onPaused);
+        return stubs;
+    }
+
+    // ReentrantLock thay cho synchronized: Cdp.send chờ I/O, không được giữ chặt carrier của virtual thread
+    private void sync() {
+        syncLock.lock();
+        try {
+            boolean wanted = !testRules.isEmpty() || !SUITE_RULES.isEmpty();
+            if (wanted && !enabled) {
+                Cdp.send(devTools, "Fetch.enable", Map.of("patterns", PATTERNS));
+                enabled = true;
+            } else if (!wanted && enabled) {
+                Cdp.send(devTools, "Fetch.disable", Map.of());
+                enabled = false;
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPaused(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        Map<String, Object> requestHeaders = request.get("headers") instanceof Map<?, ?> headers
+                ? (Map<String, Object>) headers : Map.of();
+        StubRule rule = find(String.valueOf(request.get("method")), String.valueOf(request.get("url")));
+        if (rule == null) {
+            reply("Fetch.continueRequest", Map.of("requestId", requestId));
+            return;
+        }
+        HITS.computeIfAbsent(rule, key -> new LongAdder()).increment();
+        Runnable respond = () -> respond(rule, requestId, requestHeaders);
+        if (rule.delay().isZero()) {
+            respond.run();
+        } else {
+            DELAYED.schedule(respond, rule.delay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private StubRule find(String method, String url) {
+        for (StubRule rule : testRules) {
+            if (rule.matches(method, url)) {
+                return rule;
+            }
+        }
+        for (StubRule rule : SUITE_RULES) {
+            if (rule.matches(method, url)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private void respond(StubRule rule, String requestId, Map<String, Object> requestHeaders) {
+        if (rule.fails()) {
+            reply("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", rule.errorReason()));
+        } else if (rule.fulfills()) {
+            List<Map<String, Object>> headers = new ArrayList<>();
+            rule.headers().forEach((name, value) -> headers.add(Map.of("name", name, "value", value)));
+            // App và backend khác origin: response giả cũng phải qua được kiểm tra CORS của browser
+            Object origin = requestHeaders.getOrDefault("Origin", requestHeaders.getOrDefault("origin", "*"));
+            headers.add(Map.of("name", "Access-Control-Allow-Origin", "value", String.valueOf(origin)));
+            headers.add(Map.of("name", "Access-Control-Expose-Headers", "value", "X-Total-Count"));
+            reply("Fetch.fulfillRequest", Map.of(
+                    "requestId", requestId,
+                    "responseCode", rule.status(),
+                    "responseHeaders", headers,
+                    "body", Base64.getEncoder().encodeToString(rule.body().getBytes(StandardCharsets.UTF_8))));
+        } else {
+            reply("Fetch.continueRequest", Map.of("requestId", requestId));
+        }
+    }
+
+    private void reply(String method, Map<String, Object> params) {
+        try {
+            Cdp.send(devTools, method, params);
+        } catch (WebDriverException e) {
+            // Trang đã chuyển đi hoặc request bị hủy trước khi kịp trả lời
+            if (Config.getBoolean("stubs.verbose", false)) {
+                System.err.println("[stubs] " + method + " failed: " + e.getMessage());
+            }
+        }
+    }
+}
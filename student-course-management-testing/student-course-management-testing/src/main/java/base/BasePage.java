@@ -1,14 +1,71 @@
 package base;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import utils.JavacriptUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public class BasePage {
-    public static WebDriver driver;
+    // Tìm nhiều locator trong một lần executeScript thay vì mỗi locator một round trip tới chromedriver
+    private static final String PREFETCH_SCRIPT =
+            "return arguments[0].map(function (l) {" +
+            "  if (l[0] === 'id') { return document.getElementById(l[1]); }" +
+            "  if (l[0] === 'css selector') { return document.querySelector(l[1]); }" +
+            "  if (l[0] === 'xpath') {" +
+            "    return document.evaluate(l[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "  return null;" +
+            "});";
+
+    // Số lần đổi document/route của thread hiện tại (driver và page object của nó chỉ dùng trong một thread):
+    // tăng ở mọi driver.get/navigate (NAVIGATION_LISTENER, gắn vào driver trong CommandMetrics.instrument)
+    // và khi AppNavigator định tuyến. Cache element khác số này thì bị bỏ cả, không cần page object tự xóa
+    private static final ThreadLocal<long[]> NAVIGATIONS = ThreadLocal.withInitial(() -> new long[1]);
+
+    static final WebDriverListener NAVIGATION_LISTENER = new WebDriverListener() {
+        @Override
+        public void beforeGet(WebDriver driver, String url) {
+            navigated();
+        }
+
+        @Override
+        public void beforeAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args) {
+            navigated();
+        }
+    };
+
+    protected final WebDriver driver;
+    protected final Waits waits;
+
+    // Page object chỉ dùng trong một thread nên HashMap là đủ
+    private final Map<By, WebElement> elements = new HashMap<>();
+    // Lấy trong một round trip ở lần dùng element đầu tiên của mỗi document, không phải trong constructor
+    private final By[] prefetchOnUse;
+    private long cachedAt = -1;
+    private boolean prefetched;
+
+    public BasePage() {
+        this(new By[0]);
+    }
 
-    public void setDriver(WebDriver driver) {
-        BasePage.driver = driver;
+    protected BasePage(By... prefetchOnUse) {
+        this.driver = DriverManager.getDriver();
+        this.waits = new Waits(driver);
+        this.prefetchOnUse = prefetchOnUse;
+    }
+
+    public static void navigated() {
+        NAVIGATIONS.get()[0]++;
     }
 
     public WebDriver getDriver() {
@@ -16,27 +73,111 @@ public class BasePage {
     }
 
     protected WebElement findElement(By locator) {
-        return driver.findElement(locator);
+        syncWithDocument();
+        if (!prefetched && prefetchOnUse.length > 0) {
+            prefetched = true;
+            prefetch(prefetchOnUse);
+        }
+        WebElement element = elements.get(locator);
+        if (element == null) {
+            LocatorRegistry.verify(driver, locator);
+            element = driver.findElement(locator);
+            elements.put(locator, element);
+        }
+        return element;
+    }
+
+    // Chạy action trên element đã cache; nếu element đã stale (DOM render lại) thì tìm lại một lần
+    protected <T> T withElement(By locator, Function<WebElement, T> action) {
+        boolean tagged = CommandMetrics.enterCaller();
+        try {
+            return action.apply(findElement(locator));
+        } catch (StaleElementReferenceException e) {
+            elements.remove(locator);
+            return action.apply(findElement(locator));
+        } finally {
+            CommandMetrics.exitCaller(tagged);
+        }
+    }
+
+    protected void remember(By locator, WebElement element) {
+        syncWithDocument();
+        elements.put(locator, element);
+    }
+
+    // Đổi view trong cùng document mà không qua điều hướng (đóng modal, click sang route khác)
+    protected void invalidateElements() {
+        elements.clear();
+        prefetched = false;
+    }
+
+    private void syncWithDocument() {
+        long navigations = NAVIGATIONS.get()[0];
+        if (navigations != cachedAt) {
+            cachedAt = navigations;
+            invalidateElements();
+        }
+    }
+
+    private void prefetch(By... locators) {
+        List<By> remotable = new ArrayList<>();
+        List<List<Object>> queries = new ArrayList<>();
+        for (By locator : locators) {
+            if (locator instanceof By.Remotable remote && !elements.containsKey(locator)) {
+                LocatorRegistry.verify(driver, locator);
+                By.Remotable.Parameters parameters = remote.getRemoteParameters();
+                remotable.add(locator);
+                queries.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+            }
+        }
+        if (queries.isEmpty()) {
+            return;
+        }
+        Object result = ((JavascriptExecutor) driver).executeScript(PREFETCH_SCRIPT, queries);
+        if (result instanceof List<?> found) {
+            for (int i = 0; i < found.size() && i < remotable.size(); i++) {
+                if (found.get(i) instanceof WebElement element) {
+                    elements.put(remotable.get(i), element);
+                }
+            }
+        }
     }
 
     protected void setText(By locator, String text) {
-        findElement(locator).clear();
-        findElement(locator).sendKeys(text);
+        withElement(locator, element -> {
+            element.clear();
+            element.sendKeys(text);
+            return null;
+        });
     }
 
     protected String getText(By locator) {
-        return findElement(locator).getAttribute("value");
+        return withElement(locator, element -> element.getAttribute("value"));
+    }
+
+    protected String getVisibleText(By locator) {
+        return withElement(locator, WebElement::getText);
+    }
+
+    protected boolean isSelected(By locator) {
+        return withElement(locator, WebElement::isSelected);
+    }
+
+    protected boolean isDisplayed(By locator) {
+        return withElement(locator, WebElement::isDisplayed);
     }
 
     protected  void click(By locator) {
-        findElement(locator).click();
+        withElement(locator, element -> {
+            element.click();
+            return null;
+        });
     }
 
-    public static void delay(int seconds) {
-        try {
-            Thread.sleep(seconds * 1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+    protected void scrollTo(By locator) {
+        withElement(locator, element -> {
+            JavacriptUtil.scrollToElement(element);
+            return null;
+        });
     }
 }
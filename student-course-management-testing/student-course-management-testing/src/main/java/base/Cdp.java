@@ -0,0 +1,67 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+// Một DevTools session cho mỗi driver, dùng chung cho các công cụ CDP (NetworkTracker, ...).
+// Gửi command/nghe event CDP dạng thô (tên + Map) để không phụ thuộc selenium-devtools-vNNN khớp với bản Chrome
+final class Cdp {
+    // Mở websocket DevTools ngoài monitor của map: computeIfAbsent sẽ bắt mọi driver (vd. các người dùng ảo của
+    // LoadRunner) chờ nhau và giữ chặt carrier thread trong lúc I/O
+    private static final Map<WebDriver, Optional<DevTools>> SESSIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Cdp() {
+    }
+
+    // Rỗng nếu driver không hỗ trợ CDP (vd. remote grid không mở DevTools)
+    static Optional<DevTools> session(WebDriver driver) {
+        Optional<DevTools> session = SESSIONS.get(driver);
+        if (session != null) {
+            return session;
+        }
+        Optional<DevTools> opened = open(driver);
+        Optional<DevTools> raced = SESSIONS.putIfAbsent(driver, opened);
+        if (raced == null) {
+            return opened;
+        }
+        // Thread khác mở trước: đóng session thừa (driver thường trả cùng một DevTools, khi đó không có gì để đóng)
+        if (opened.isPresent() && raced.orElse(null) != opened.get()) {
+            opened.get().close();
+        }
+        return raced;
+    }
+
+    private static Optional<DevTools> open(WebDriver driver) {
+        WebDriver raw = driver instanceof WrapsDriver wraps ? wraps.getWrappedDriver() : driver;
+        if (!(raw instanceof HasDevTools hasDevTools)) {
+            return Optional.empty();
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            return Optional.of(devTools);
+        } catch (WebDriverException e) {
+            System.err.println("[cdp] DevTools not available: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static void send(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
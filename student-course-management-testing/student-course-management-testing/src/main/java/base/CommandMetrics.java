@@ -0,0 +1,214 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// Đo thời gian từng lệnh WebDriver (qua EventFiringDecorator) và từng lần chờ của Waits,
+// gom vào histogram theo: loại lệnh, locator, method page object gọi tới, và test đang chạy
+public class CommandMetrics implements WebDriverListener {
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+    private static final StackWalker STACK = StackWalker.getInstance();
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+    // Method page object của thao tác đang chạy (enterCaller), dùng chung cho mọi lệnh WebDriver bên trong nó
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+    private static final int MAX_DEPTH = 16;
+    // Locator sinh động (vd. By.id("edit-student-btn-" + id)) gom về một key: các dãy số thành '#'
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    private final Map<String, Map<String, LatencyHistogram>> dimensions = new ConcurrentHashMap<>();
+    private final Map<Method, String> commandNames = new ConcurrentHashMap<>();
+    private final Map<By, String> locatorNames = new ConcurrentHashMap<>();
+    // Lệnh có thể lồng nhau (vd. Select gọi lại WebElement), nên giữ một stack thời điểm bắt đầu cho mỗi thread
+    private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[MAX_DEPTH + 1]);
+    private final boolean callers = Config.getBoolean("metrics.callers", true);
+
+    private CommandMetrics() {
+    }
+
+    // -Dmetrics=false để tắt phần đo; listener điều hướng của BasePage (bỏ cache element khi đổi document) luôn được gắn
+    public static WebDriver instrument(WebDriver driver) {
+        if (!Config.getBoolean("metrics", true)) {
+            return new EventFiringDecorator<>(BasePage.NAVIGATION_LISTENER).decorate(driver);
+        }
+        return new EventFiringDecorator<>(INSTANCE, BasePage.NAVIGATION_LISTENER).decorate(driver);
+    }
+
+    public static void startTest(String name) {
+        CURRENT_TEST.set(name);
+    }
+
+    public static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    // Dùng cho các thao tác không phải lệnh WebDriver đơn lẻ, vd. một lần chờ trong Waits
+    public static void record(String command, String locator, long nanos) {
+        INSTANCE.add(command, locator, nanos);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        long[] stack = starts.get();
+        int depth = (int) stack[0];
+        if (depth < MAX_DEPTH) {
+            stack[depth + 1] = System.nanoTime();
+        }
+        stack[0] = depth + 1;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args);
+    }
+
+    private void finish(Method method, Object[] args) {
+        long[] stack = starts.get();
+        int depth = (int) stack[0];
+        if (depth == 0) {
+            return;
+        }
+        stack[0] = depth - 1;
+        if (depth > MAX_DEPTH) {
+            return;
+        }
+        long elapsed = System.nanoTime() - stack[depth];
+        String locator = args != null && args.length > 0 && args[0] instanceof By by ? locatorName(by) : null;
+        add(commandNames.computeIfAbsent(method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName()), locator, elapsed);
+    }
+
+    private void add(String command, String locator, long nanos) {
+        histogram("command", command).record(nanos);
+        if (locator != null) {
+            histogram("locator", locator).record(nanos);
+        }
+        if (callers) {
+            String caller = CALLER.get();
+            histogram("caller", caller != null ? caller : caller()).record(nanos);
+        }
+        String test = CURRENT_TEST.get();
+        histogram("test", test == null ? "(outside test)" : test).record(nanos);
+    }
+
+    private LatencyHistogram histogram(String dimension, String key) {
+        return dimensions.computeIfAbsent(dimension, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    // Chỉ cache locator cố định; locator có số được chuẩn hóa mỗi lần để map không lớn dần theo id
+    private String locatorName(By by) {
+        String name = locatorNames.get(by);
+        if (name != null) {
+            return name;
+        }
+        String raw = by.toString();
+        name = DIGITS.matcher(raw).replaceAll("#");
+        if (name.equals(raw)) {
+            locatorNames.put(by, name);
+        }
+        return name;
+    }
+
+    // Gọi ở đầu một thao tác của page object (BasePage.withElement, Waits.until): duyệt stack một lần cho mọi lệnh
+    // bên trong (kể cả mỗi lần poll của Waits) thay vì ở từng lệnh. true nếu lần gọi này đặt tag, khi đó phải exitCaller
+    static boolean enterCaller() {
+        if (!INSTANCE.callers || CALLER.get() != null) {
+            return false;
+        }
+        CALLER.set(caller());
+        return true;
+    }
+
+    static void exitCaller(boolean entered) {
+        if (entered) {
+            CALLER.remove();
+        }
+    }
+
+    // Method page object gần nhất trên stack; không có thì lấy frame đầu tiên của framework (Waits, DriverPool, ...)
+    private static String caller() {
+        return STACK.walk(frames -> {
+            String fallback = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith("pages.")) {
+                    return simpleName(className) + "." + frame.getMethodName();
+                }
+                if (fallback == null && !isInfrastructure(className)) {
+                    fallback = simpleName(className) + "." + frame.getMethodName();
+                }
+            }
+            return fallback == null ? "(unknown)" : fallback;
+        });
+    }
+
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("org.openqa.") || className.startsWith("net.bytebuddy.")
+                || className.equals(CommandMetrics.class.getName()) || className.equals(BasePage.class.getName());
+    }
+
+    private static String simpleName(String className) {
+        int lambda = className.indexOf("$$");
+        String name = lambda < 0 ? className : className.substring(0, lambda);
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    public static Map<String, Map<String, Map<String, Object>>> snapshot() {
+        Map<String, Map<String, Map<String, Object>>> snapshot = new TreeMap<>();
+        INSTANCE.dimensions.forEach((dimension, histograms) -> {
+            Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+            histograms.entrySet().stream()
+                    .sorted(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalMillis()).reversed())
+                    .forEach(e -> rows.put(e.getKey(), e.getValue().summary()));
+            snapshot.put(dimension, rows);
+        });
+        return snapshot;
+    }
+
+    public static void writeJson(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new Json().toJson(snapshot()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Bảng theo từng chiều, sắp theo tổng thời gian giảm dần để thấy ngay chỗ tốn nhất
+    public static String report() {
+        StringBuilder out = new StringBuilder();
+        snapshot().forEach((dimension, rows) -> {
+            out.append(String.format("%n[driver commands by %s]%n%-60s %7s %9s %9s %9s %9s %11s%n",
+                    dimension, "name", "count", "p50 ms", "p95 ms", "p99 ms", "max ms", "total ms"));
+            rows.forEach((name, row) -> out.append(String.format("%-60s %7d %9.1f %9.1f %9.1f %9.1f %11.1f%n",
+                    name.length() > 60 ? name.substring(0, 57) + "..." : name, (Long) row.get("count"),
+                    (Double) row.get("p50Ms"), (Double) row.get("p95Ms"), (Double) row.get("p99Ms"),
+                    (Double) row.get("maxMs"), (Double) row.get("totalMs"))));
+        });
+        return out.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package base;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import utils.Config;
+import utils.Timings;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+// Tạo ChromeDriver theo profile chọn bằng -Ddriver.profile (local | headless | ci), ghi lại thời gian khởi động từng session
+public class DriverFactory {
+    private static final Timings STARTUP = Timings.of("driver");
+
+    private static final List<String> LINUX_CHROME = List.of(
+            "/usr/bin/google-chrome", "/usr/bin/google-chrome-stable", "/opt/google/chrome/chrome",
+            "/usr/bin/chromium", "/usr/bin/chromium-browser", "/snap/bin/chromium");
+    private static final List<String> LINUX_CHROMEDRIVER = List.of(
+            "/usr/bin/chromedriver", "/usr/local/bin/chromedriver", "/usr/lib/chromium/chromedriver",
+            "/usr/lib/chromium-browser/chromedriver", "/snap/bin/chromium.chromedriver");
+    private static final List<String> WINDOWS_CHROME = List.of("C:\\driver\\chrome-win64\\chrome.exe");
+    private static final List<String> WINDOWS_CHROMEDRIVER = List.of("C:\\driver\\chromedriver-win64\\chromedriver.exe");
+
+    public enum Profile {
+        // Như trước đây: cửa sổ thật, maximize, tải đầy đủ trang
+        LOCAL(false, PageLoadStrategy.NORMAL, false),
+        // Không giao diện, không chờ ảnh/font, không bị Chrome giảm tốc tab nền
+        HEADLESS(true, PageLoadStrategy.EAGER, true),
+        // HEADLESS cộng các cờ cần thiết khi chạy trong container
+        CI(true, PageLoadStrategy.EAGER, true);
+
+        private final boolean headless;
+        private final PageLoadStrategy pageLoadStrategy;
+        private final boolean lowOverhead;
+
+        Profile(boolean headless, PageLoadStrategy pageLoadStrategy, boolean lowOverhead) {
+            this.headless = headless;
+            this.pageLoadStrategy = pageLoadStrategy;
+            this.lowOverhead = lowOverhead;
+        }
+
+        public static Profile fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown driver.profile '" + name + "', expected one of " + Arrays.toString(values()));
+            }
+        }
+    }
+
+    private DriverFactory() {
+    }
+
+    public static Profile profile() {
+        return Profile.fromName(Config.get("driver.profile", "local"));
+    }
+
+    public static WebDriver create() {
+        return create(profile());
+    }
+
+    public static WebDriver create(Profile profile) {
+        ChromeOptions options = options(profile);
+        ChromeDriverService.Builder service = new ChromeDriverService.Builder();
+        resolve("chromedriver.path", LINUX_CHROMEDRIVER, WINDOWS_CHROMEDRIVER)
+                .ifPresent(path -> service.usingDriverExecutable(new File(path)));
+
+        long start = System.nanoTime();
+        WebDriver driver = new ChromeDriver(service.build(), options);
+        if (!profile.headless) {
+            driver.manage().window().maximize();
+        }
+        STARTUP.record("startup." + profile.name().toLowerCase(Locale.ROOT), System.nanoTime() - start);
+        return CommandMetrics.instrument(driver);
+    }
+
+    public static ChromeOptions options(Profile profile) {
+        ChromeOptions options = new ChromeOptions();
+        resolve("chrome.binary", LINUX_CHROME, WINDOWS_CHROME).ifPresent(options::setBinary);
+        options.setPageLoadStrategy(profile.pageLoadStrategy);
+
+        if (profile.headless) {
+            options.addArguments("--headless=new");
+        }
+        if (profile.lowOverhead) {
+            // Cửa sổ cố định để layout (và vị trí click) giống nhau trên mọi máy
+            Dimension size = windowSize();
+            options.addArguments(
+                    "--window-size=" + size.getWidth() + "," + size.getHeight(),
+                    "--disable-extensions",
+                    "--disable-background-timer-throttling",
+                    "--disable-backgrounding-occluded-windows",
+                    "--disable-renderer-backgrounding",
+                    "--blink-settings=imagesEnabled=false",
+                    "--no-first-run",
+                    "--no-default-browser-check");
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+        if (profile == Profile.CI) {
+            options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu");
+        }
+        // Giữ console log của trang để FailureArtifactListener lấy khi test fail
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        // -Ddriver.args=--lang=vi,--force-device-scale-factor=1 để thêm cờ mà không cần profile mới
+        String extra = Config.get("driver.args", "");
+        if (!extra.isEmpty()) {
+            options.addArguments(extra.split(","));
+        }
+        return options;
+    }
+
+    private static Dimension windowSize() {
+        String[] size = Config.get("driver.window", "1366x900").toLowerCase(Locale.ROOT).split("x");
+        return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+    }
+
+    // Ưu tiên system property, sau đó các vị trí cài đặt quen thuộc theo hệ điều hành;
+    // không tìm thấy thì để Selenium Manager tự tải
+    private static Optional<String> resolve(String property, List<String> linux, List<String> windows) {
+        String configured = Config.get(property, null);
+        if (configured != null) {
+            return Optional.of(configured);
+        }
+        boolean isWindows = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+        return (isWindows ? windows : linux).stream()
+                .filter(path -> Files.isExecutable(Path.of(path)))
+                .findFirst();
+    }
+}
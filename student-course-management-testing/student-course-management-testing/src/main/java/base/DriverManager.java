@@ -0,0 +1,31 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+
+public class DriverManager {
+    // Mỗi thread (test method khi chạy parallel) giữ một browser riêng
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    public static void unload() {
+        DRIVER.remove();
+    }
+}
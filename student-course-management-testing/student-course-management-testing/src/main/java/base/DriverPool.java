@@ -0,0 +1,160 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Pool giới hạn số browser, cho test mượn session đã khởi động sẵn thay vì mở Chrome mới mỗi lần
+public class DriverPool {
+    private static final String RESET_SCRIPT =
+            "var close = document.getElementById('modal-close-btn');" +
+            "if (close) { close.click(); }" +
+            "document.querySelectorAll('.alert-notification').forEach(function (n) { n.remove(); });" +
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }" +
+            "return document.readyState;";
+
+    private final Supplier<WebDriver> factory;
+    private final int maxSize;
+    private final long leaseTimeoutSeconds;
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
+
+    public DriverPool(Supplier<WebDriver> factory, int maxSize, long leaseTimeoutSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, was " + maxSize);
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+    }
+
+    // Khởi động trước một số browser song song để test đầu tiên không phải chờ cold start
+    public void warmUp(int count) {
+        List<CompletableFuture<Void>> starts = new ArrayList<>();
+        for (int i = 0; i < Math.min(count, maxSize); i++) {
+            if (created.incrementAndGet() > maxSize) {
+                created.decrementAndGet();
+                break;
+            }
+            starts.add(CompletableFuture.runAsync(() -> idle.offer(startSession())));
+        }
+        starts.forEach(CompletableFuture::join);
+    }
+
+    public WebDriver lease() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTimeoutSeconds);
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("Driver pool is closed");
+            }
+            WebDriver driver = idle.pollFirst();
+            if (driver != null) {
+                if (isHealthy(driver)) {
+                    return driver;
+                }
+                discard(driver);
+                continue;
+            }
+            if (created.incrementAndGet() <= maxSize) {
+                return startSession();
+            }
+            created.decrementAndGet();
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("No browser session became available within " + leaseTimeoutSeconds + "s");
+                }
+                driver = idle.pollFirst(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+            }
+            if (driver != null) {
+                // Trả lại đầu hàng đợi để vòng lặp kiểm tra sức khỏe như bình thường
+                idle.offerFirst(driver);
+            }
+        }
+    }
+
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (closed || !reset(driver)) {
+            discard(driver);
+            return;
+        }
+        idle.offerFirst(driver);
+    }
+
+    public int size() {
+        return created.get();
+    }
+
+    public void close() {
+        closed = true;
+        for (WebDriver driver : sessions) {
+            quitQuietly(driver);
+        }
+        sessions.clear();
+        idle.clear();
+        created.set(0);
+    }
+
+    private WebDriver startSession() {
+        try {
+            WebDriver driver = factory.get();
+            sessions.add(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            created.decrementAndGet();
+            throw e;
+        }
+    }
+
+    // Reset rẻ: đóng modal/notification, xóa storage và cookie; lỗi ở đây nghĩa là session đã hỏng
+    private boolean reset(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT);
+            driver.manage().deleteAllCookies();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        if (sessions.remove(driver)) {
+            created.decrementAndGet();
+        }
+        quitQuietly(driver);
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("[pool] quit failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Đo độ trễ người dùng thấy được ngay trong trang, không tính overhead của WebDriver: một listener click (capture)
+// đánh dấu performance.mark lúc bấm, mỗi frame kiểm tra trạng thái đích rồi performance.measure khi đạt.
+// Kết quả lấy qua PerformanceObserver ('measure', và 'event' của Event Timing: từ lúc bấm tới frame vẽ kế tiếp,
+// chỉ có với click >= 16 ms). BaseTest thu kết quả sau mỗi test, gom thành percentile theo từng tương tác.
+// Script được cài vào mọi document mới qua CDP; không có CDP thì chỉ đo được từ lần thu đầu tiên trên trang đó.
+// -Dprobes=false để tắt
+public final class LatencyProbes {
+    private static final String PROBE_SCRIPT =
+            "(function () {" +
+            "  if (window.__latencyProbes) { return; }" +
+            "  var TIMEOUT = 10000;" +
+            "  var pending = [], results = [], timeouts = {};" +
+            "  function visible(el) { return !!el && el.getClientRects().length > 0; }" +
+            "  function overlay() { return document.getElementById('student-modal-overlay'); }" +
+            "  function settled() {" +
+            "    return !(document.getAnimations && document.getAnimations().some(function (a) { return a.playState === 'running'; }));" +
+            "  }" +
+            "  function modalOpen() { return visible(overlay()) && settled() ? '' : null; }" +
+            // Lỗi validation xét trước: hiện ngay ở frame đầu sau click, kèm notification lỗi 'Please fill in...'.
+            // Notification cũ còn hiện tới 5 s nên chỉ tính notification mới tạo sau click (app xóa cái cũ, tạo node mới),
+            // phân loại theo tiêu đề: Success! là lưu xong, còn lại là lỗi từ backend
+            "  function submitted(p) {" +
+            "    var modal = overlay();" +
+            "    if (modal && Array.prototype.some.call(modal.querySelectorAll('p.text-red-500'), visible)) { return '_to_validation'; }" +
+            "    var notification = document.querySelector('.alert-notification:not(.removing)');" +
+            "    if (!notification || notification === p.before) { return null; }" +
+            "    var title = notification.querySelector('.alert-title');" +
+            "    return title && title.textContent.trim() === 'Success!' ? '_to_notification' : '_to_error';" +
+            "  }" +
+            "  function modalGone() { return visible(overlay()) ? null : ''; }" +
+            "  var RULES = [" +
+            "    { selector: '#add-student-btn', name: 'open_add_modal', done: modalOpen }," +
+            "    { selector: \"[id^='edit-student-btn-']\", name: 'open_edit_modal', done: modalOpen }," +
+            "    { selector: '#modal-ok-btn', name: 'submit', done: submitted }," +
+            "    { selector: '#modal-close-btn, #modal-cancel-btn', name: 'close_modal', done: modalGone }" +
+            "  ];" +
+            "  function ruleFor(el) {" +
+            "    for (var i = 0; el && el.closest && i < RULES.length; i++) {" +
+            "      if (el.closest(RULES[i].selector)) { return RULES[i]; }" +
+            "    }" +
+            "    return null;" +
+            "  }" +
+            "  function tick() {" +
+            "    var now = performance.now();" +
+            "    pending = pending.filter(function (p) {" +
+            "      var suffix = p.rule.done(p);" +
+            "      if (suffix !== null) {" +
+            "        performance.measure('probe:' + p.rule.name + suffix, { start: p.start, end: now });" +
+            "        return false;" +
+            "      }" +
+            "      if (now - p.start > TIMEOUT) { timeouts[p.rule.name] = (timeouts[p.rule.name] || 0) + 1; return false; }" +
+            "      return true;" +
+            "    });" +
+            "    if (pending.length) { requestAnimationFrame(tick); }" +
+            "  }" +
+            "  document.addEventListener('click', function (event) {" +
+            "    var rule = ruleFor(event.target);" +
+            "    if (!rule) { return; }" +
+            "    var start = performance.now();" +
+            "    performance.mark('probe:' + rule.name + ':start');" +
+            "    pending.push({ rule: rule, start: start, before: document.querySelector('.alert-notification') });" +
+            "    if (pending.length === 1) { requestAnimationFrame(tick); }" +
+            "  }, true);" +
+            "  function collect(list) {" +
+            "    list.getEntries().forEach(function (entry) {" +
+            "      if (entry.entryType === 'measure' && entry.name.indexOf('probe:') === 0) {" +
+            "        results.push({ name: entry.name.substring(6), duration: entry.duration });" +
+            "      } else if (entry.entryType === 'event' && entry.name === 'click') {" +
+            "        var rule = ruleFor(entry.target);" +
+            "        if (rule) { results.push({ name: rule.name + '_input_to_paint', duration: entry.duration }); }" +
+            "      }" +
+            "    });" +
+            "  }" +
+            "  var observers = [];" +
+            "  try {" +
+            "    var measures = new PerformanceObserver(collect);" +
+            "    measures.observe({ type: 'measure', buffered: true });" +
+            "    observers.push(measures);" +
+            "    var events = new PerformanceObserver(collect);" +
+            "    events.observe({ type: 'event', durationThreshold: 16, buffered: true });" +
+            "    observers.push(events);" +
+            "  } catch (e) { }" +
+            "  window.__latencyProbes = {" +
+            "    drain: function () {" +
+            "      observers.forEach(function (observer) { collect({ getEntries: function () { return observer.takeRecords(); } }); });" +
+            "      var out = { results: results, timeouts: timeouts };" +
+            "      results = [];" +
+            "      timeouts = {};" +
+            // Chỉ xóa mark/measure của probe, không đụng tới của app
+            "      ['mark', 'measure'].forEach(function (type) {" +
+            "        performance.getEntriesByType(type).forEach(function (entry) {" +
+            "          if (entry.name.indexOf('probe:') === 0) {" +
+            "            if (type === 'mark') { performance.clearMarks(entry.name); } else { performance.clearMeasures(entry.name); }" +
+            "          }" +
+            "        });" +
+            "      });" +
+            "      return out;" +
+            "    }" +
+            "  };" +
+            "})();";
+
+    private static final String DRAIN_SCRIPT =
+            PROBE_SCRIPT +
+            "return window.__latencyProbes.drain();";
+
+    private static final Map<String, LatencyHistogram> INTERACTIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Long> TIMEOUTS = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> INSTALLED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private LatencyProbes() {
+    }
+
+    // Gọi khi một browser được lease: cài script cho mọi document sau này (một lần cho mỗi browser) và cho trang hiện tại
+    public static void attach(WebDriver driver) {
+        if (!Config.getBoolean("probes", true)) {
+            return;
+        }
+        if (INSTALLED.add(driver)) {
+            Cdp.session(driver).ifPresent(devTools ->
+                    Cdp.send(devTools, "Page.addScriptToEvaluateOnNewDocument", Map.of("source", PROBE_SCRIPT)));
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+        } catch (WebDriverException e) {
+            // Trang chưa tải (about:blank của session mới, ...): script qua CDP sẽ có ở document kế tiếp
+        }
+    }
+
+    // Lấy kết quả đang có trong trang; gọi sau mỗi test và trước khi driver.get bỏ document hiện tại
+    @SuppressWarnings("unchecked")
+    public static void collect(WebDriver driver) {
+        if (!Config.getBoolean("probes", true)) {
+            return;
+        }
+        Object drained;
+        try {
+            drained = ((JavascriptExecutor) driver).executeScript(DRAIN_SCRIPT);
+        } catch (WebDriverException e) {
+            return;
+        }
+        if (!(drained instanceof Map<?, ?> out)) {
+            return;
+        }
+        if (out.get("results") instanceof List<?> results) {
+            for (Object result : results) {
+                Map<String, Object> entry = (Map<String, Object>) result;
+                if (entry.get("duration") instanceof Number duration) {
+                    INTERACTIONS.computeIfAbsent(String.valueOf(entry.get("name")), key -> new LatencyHistogram())
+                            .record(Math.round(duration.doubleValue() * TimeUnit.MILLISECONDS.toNanos(1)));
+                }
+            }
+        }
+        if (out.get("timeouts") instanceof Map<?, ?> timeouts) {
+            timeouts.forEach((name, count) -> TIMEOUTS.merge(String.valueOf(name), ((Number) count).longValue(), Long::sum));
+        }
+    }
+
+    public static Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        INTERACTIONS.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .forEach(e -> {
+                    Map<String, Object> row = new LinkedHashMap<>(e.getValue().summary());
+                    row.put("timeouts", TIMEOUTS.getOrDefault(e.getKey(), 0L));
+                    rows.put(e.getKey(), row);
+                });
+        // Tương tác chưa lần nào xong (chỉ toàn timeout) vẫn phải hiện ra
+        TIMEOUTS.forEach((name, count) -> rows.computeIfAbsent(name, key -> new LinkedHashMap<>(Map.of("count", 0L, "timeouts", count))));
+        return rows;
+    }
+
+    public static void writeJson(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new Json().toJson(snapshot()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String report() {
+        StringBuilder out = new StringBuilder(String.format("%n[in-page interaction latency]%n%-40s %7s %9s %9s %9s %9s %9s%n",
+                "interaction", "count", "p50 ms", "p95 ms", "p99 ms", "max ms", "timeouts"));
+        snapshot().forEach((name, row) -> {
+            if (((Number) row.get("count")).longValue() == 0) {
+                out.append(String.format("%-40s %7d %9s %9s %9s %9s %9d%n", name, 0, "-", "-", "-", "-", (Long) row.get("timeouts")));
+                return;
+            }
+            out.append(String.format("%-40s %7d %9.1f %9.1f %9.1f %9.1f %9d%n", name, (Long) row.get("count"),
+                    (Double) row.get("p50Ms"), (Double) row.get("p95Ms"), (Double) row.get("p99Ms"),
+                    (Double) row.get("maxMs"), (Long) row.get("timeouts")));
+        });
+        return out.toString();
+    }
+}
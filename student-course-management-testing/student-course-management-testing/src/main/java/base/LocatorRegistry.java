@@ -0,0 +1,267 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Nơi khai báo locator của page object (xem pages.PageLocators). XPath được dịch sang CSS ngay khi khai báo
+// (XPathTranslator, hoặc CSS viết tay), nhưng chỉ được dùng sau khi đã kiểm tra trên DOM thật rằng cả hai
+// trả về đúng cùng các node. Lần kiểm tra đó cũng đo chi phí resolve của XPath và CSS ngay trong browser.
+// -Dlocators.optimize=false để luôn dùng XPath gốc
+public final class LocatorRegistry {
+    private static final Map<String, Locator> LOCATORS = new ConcurrentSkipListMap<>();
+
+    // So sánh toàn bộ node khớp theo thứ tự tài liệu, rồi đo thời gian tìm node đầu tiên như findElement
+    private static final String VERIFY_SCRIPT =
+            "var xpath = arguments[0], css = arguments[1], rounds = arguments[2];" +
+            "function allByXPath() {" +
+            "  var r = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "  for (var i = 0; i < r.snapshotLength; i++) { out.push(r.snapshotItem(i)); }" +
+            "  return out;" +
+            "}" +
+            "function firstByXPath() { return document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }" +
+            "function firstByCss() { return document.querySelector(css); }" +
+            "function cost(find) {" +
+            "  var start = performance.now();" +
+            "  for (var i = 0; i < rounds; i++) { find(); }" +
+            "  return (performance.now() - start) * 1000 / rounds;" +
+            "}" +
+            "var byCss;" +
+            "try { byCss = Array.prototype.slice.call(document.querySelectorAll(css)); } catch (e) { return { error: String(e) }; }" +
+            "if (xpath === null) { return { matches: byCss.length, same: true, cssMicros: cost(firstByCss) }; }" +
+            "var byXPath = allByXPath();" +
+            "var same = byXPath.length === byCss.length && byXPath.every(function (n, i) { return n === byCss[i]; });" +
+            "return { matches: byXPath.length, cssMatches: byCss.length, same: same," +
+            "  xpathMicros: cost(firstByXPath), cssMicros: cost(firstByCss) };";
+
+    private static final boolean OPTIMIZE = Config.getBoolean("locators.optimize", true);
+    private static final int VERIFY_ATTEMPTS = Config.getInt("locators.verifyAttempts", 5);
+    private static final int COST_ROUNDS = Config.getInt("locators.costRounds", 50);
+
+    public enum Status {
+        // Khai báo bằng id/CSS, không cần dịch
+        NATIVE,
+        // Đã có CSS nhưng chưa gặp DOM nào chứa node khớp để kiểm tra, tạm dùng XPath
+        PENDING,
+        // CSS khớp đúng các node của XPath, đã chuyển sang CSS
+        CSS,
+        // Không dịch được, CSS khác kết quả hoặc hết lượt kiểm tra: dùng XPath
+        XPATH
+    }
+
+    private LocatorRegistry() {
+    }
+
+    public static By id(String name, String id) {
+        return LOCATORS.computeIfAbsent(name, key -> new Locator(key, By.id(id), "[id=" + XPathTranslator.quote(id) + "]", null));
+    }
+
+    public static By css(String name, String css) {
+        return LOCATORS.computeIfAbsent(name, key -> new Locator(key, By.cssSelector(css), css, null));
+    }
+
+    public static By xpath(String name, String xpath) {
+        return xpath(name, xpath, null);
+    }
+
+    // cssCandidate: CSS viết tay cho XPath mà XPathTranslator không dịch được (vd. trục following::), vẫn phải qua kiểm tra
+    public static By xpath(String name, String xpath, String cssCandidate) {
+        return LOCATORS.computeIfAbsent(name, key -> {
+            XPathTranslator.Result translation = XPathTranslator.translate(xpath);
+            String css = translation.translated() ? translation.css() : cssCandidate;
+            return new Locator(key, By.xpath(xpath), css, css == null ? translation.reason() : null);
+        });
+    }
+
+    // Gọi trước khi dùng locator: kiểm tra trên DOM hiện tại nếu chưa kiểm tra xong, rẻ khi đã xong
+    public static void verify(WebDriver driver, By locator) {
+        if (locator instanceof Locator registered && registered.needsVerification()) {
+            registered.verify(driver);
+        }
+    }
+
+    public static Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        LOCATORS.forEach((name, locator) -> snapshot.put(name, locator.summary()));
+        return snapshot;
+    }
+
+    public static void writeJson(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new Json().toJson(snapshot()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String report() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n[locators]%n%-32s %-8s %7s %11s %11s  %s%n",
+                "name", "status", "matches", "xpath µs", "css µs", "resolved as"));
+        LOCATORS.forEach((name, locator) -> out.append(String.format("%-32s %-8s %7s %11s %11s  %s%n",
+                name, locator.status, locator.matches < 0 ? "-" : String.valueOf(locator.matches),
+                micros(locator.xpathMicros), micros(locator.cssMicros), locator.describe())));
+        return out.toString();
+    }
+
+    private static String micros(double value) {
+        return value < 0 ? "-" : String.format("%.1f", value);
+    }
+
+    // By ổn định cho page object: toString/equals theo tên, còn việc tìm element đi theo dạng đang dùng (CSS hoặc XPath).
+    // Là By.Remotable nên RemoteWebDriver gửi thẳng strategy/value của dạng đó tới chromedriver
+    public static final class Locator extends By implements By.Remotable {
+        private final String name;
+        private final By declared;
+        private final By translated;
+        // CSS dùng để kiểm tra/đo: bản dịch của XPath, hoặc chính locator nếu đã là id/CSS
+        private final String translatedCss;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile By current;
+        private volatile Status status;
+        private volatile String reason;
+        private volatile int matches = -1;
+        private volatile double xpathMicros = -1;
+        private volatile double cssMicros = -1;
+
+        private Locator(String name, By declared, String css, String reason) {
+            this.name = name;
+            this.declared = declared;
+            this.translatedCss = css;
+            this.translated = css == null || !(declared instanceof By.ByXPath) ? declared : By.cssSelector(css);
+            this.current = declared;
+            this.reason = reason;
+            if (!(declared instanceof By.ByXPath)) {
+                status = Status.NATIVE;
+            } else if (css == null || !OPTIMIZE) {
+                status = Status.XPATH;
+                if (css != null) {
+                    this.reason = "disabled by -Dlocators.optimize=false";
+                }
+            } else {
+                status = Status.PENDING;
+            }
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Status status() {
+            return status;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return current.findElements(context);
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            return current.findElement(context);
+        }
+
+        @Override
+        public Parameters getRemoteParameters() {
+            return ((By.Remotable) current).getRemoteParameters();
+        }
+
+        @Override
+        public String toString() {
+            return "By.registered: " + name;
+        }
+
+        // Locator NATIVE chỉ cần đo chi phí một lần khi node đã có trên trang
+        private boolean needsVerification() {
+            return (status == Status.PENDING || (status == Status.NATIVE && matches <= 0))
+                    && attempts.get() < VERIFY_ATTEMPTS;
+        }
+
+        private void verify(WebDriver driver) {
+            attempts.incrementAndGet();
+            String xpath = status == Status.NATIVE ? null : String.valueOf(((By.Remotable) declared).getRemoteParameters().value());
+            Object raw;
+            try {
+                raw = ((JavascriptExecutor) driver).executeScript(VERIFY_SCRIPT, xpath, translatedCss, COST_ROUNDS);
+            } catch (WebDriverException e) {
+                // Trang đang chuyển route hoặc driver không chạy được script: thử lại ở lần dùng sau
+                return;
+            }
+            if (!(raw instanceof Map<?, ?> result)) {
+                return;
+            }
+            if (result.get("error") != null) {
+                reject("invalid CSS: " + result.get("error"));
+                return;
+            }
+            int found = ((Number) result.get("matches")).intValue();
+            if (result.get("cssMicros") instanceof Number micros) {
+                cssMicros = micros.doubleValue();
+            }
+            if (result.get("xpathMicros") instanceof Number micros) {
+                xpathMicros = micros.doubleValue();
+            }
+            matches = found;
+            if (status == Status.NATIVE) {
+                return;
+            }
+            if (!Boolean.TRUE.equals(result.get("same"))) {
+                reject("CSS matched " + result.get("cssMatches") + " nodes, XPath matched " + found);
+            } else if (found > 0) {
+                current = translated;
+                status = Status.CSS;
+            } else if (attempts.get() >= VERIFY_ATTEMPTS) {
+                reject("no matching node seen in " + VERIFY_ATTEMPTS + " checks");
+            }
+        }
+
+        private void reject(String why) {
+            reason = why;
+            status = Status.XPATH;
+            current = declared;
+            if (Config.getBoolean("locators.verbose", false)) {
+                System.out.printf("[locators] %s stays XPath: %s%n", name, why);
+            }
+        }
+
+        private String describe() {
+            String value = String.valueOf(((By.Remotable) current).getRemoteParameters().value());
+            return switch (status) {
+                case CSS -> "css " + value;
+                case PENDING -> "xpath " + value + " (css " + translatedCss + " not verified yet)";
+                case XPATH -> "xpath " + value + (reason == null ? "" : " (" + reason + ")");
+                case NATIVE -> current.toString();
+            };
+        }
+
+        private Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("status", status.name());
+            summary.put("declared", declared.toString());
+            summary.put("css", translatedCss);
+            summary.put("resolvedAs", current.toString());
+            summary.put("reason", reason);
+            summary.put("matches", matches);
+            summary.put("xpathMicros", xpathMicros);
+            summary.put("cssMicros", cssMicros);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package base;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import utils.Config;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+// Đếm request XHR/fetch đang chạy của một browser qua event Network.* của CDP, để chờ đúng bằng thời gian
+// backend xử lý thay vì poll UI: awaitNetworkIdle() chờ không còn request nào trong một khoảng yên lặng,
+// awaitRequest() chờ một request cụ thể (vd. POST /students) hoàn tất sau một mốc mark().
+// -Dnetwork.tracker=false để tắt (page object quay về chờ theo UI như cũ)
+public final class NetworkTracker {
+    private static final Map<WebDriver, Optional<NetworkTracker>> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch");
+    private static final int HISTORY = Config.getInt("network.history", 256);
+
+    public record Exchange(long sequence, String method, String url, int status, boolean failed, long durationNanos) {
+        public long durationMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+    }
+
+    private static final class InFlight {
+        final String method;
+        final String url;
+        final long start = System.nanoTime();
+        int status;
+
+        InFlight(String method, String url) {
+            this.method = method;
+            this.url = url;
+        }
+    }
+
+    // Event CDP đến trên thread của kết nối WebSocket, còn chờ thì ở thread test: mọi trạng thái được khóa bằng lock.
+    // Không dùng synchronized/wait: LoadRunner chờ ở đây từ virtual thread, Object.wait sẽ giữ chặt carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<String, InFlight> inFlight = new HashMap<>();
+    private final Deque<Exchange> completed = new ArrayDeque<>();
+    private long sequence;
+    private long lastActivity = System.nanoTime();
+
+    private NetworkTracker() {
+    }
+
+    public static Optional<NetworkTracker> of(WebDriver driver) {
+        if (!Config.getBoolean("network.tracker", true)) {
+            return Optional.empty();
+        }
+        Optional<NetworkTracker> tracker = TRACKERS.get(driver);
+        if (tracker != null) {
+            return tracker;
+        }
+        // Mở session CDP ngoài monitor của map: mỗi driver chỉ thuộc một thread nên không có hai lần attach cùng lúc
+        tracker = Cdp.session(driver).map(NetworkTracker::attach);
+        TRACKERS.put(driver, tracker);
+        return tracker;
+    }
+
+    private static NetworkTracker attach(DevTools devTools) {
+        NetworkTracker tracker = new NetworkTracker();
+        devTools.addListener(Cdp.event("Network.requestWillBeSent"), tracker::onRequest);
+        devTools.addListener(Cdp.event("Network.responseReceived"), tracker::onResponse);
+        devTools.addListener(Cdp.event("Network.loadingFinished"), params -> tracker.onDone(params, false));
+        devTools.addListener(Cdp.event("Network.loadingFailed"), params -> tracker.onDone(params, true));
+        Cdp.send(devTools, "Network.enable", Map.of());
+        return tracker;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequest(Map<String, Object> params) {
+        String type = String.valueOf(params.get("type"));
+        lock.lock();
+        try {
+            // Điều hướng sang document mới: request của trang cũ sẽ không bao giờ báo xong nữa
+            if ("Document".equals(type) && String.valueOf(params.get("requestId")).equals(params.get("loaderId"))) {
+                inFlight.clear();
+            }
+            if (!TRACKED_TYPES.contains(type)) {
+                return;
+            }
+            Map<String, Object> request = (Map<String, Object>) params.get("request");
+            inFlight.put(String.valueOf(params.get("requestId")),
+                    new InFlight(String.valueOf(request.get("method")), String.valueOf(request.get("url"))));
+            activity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponse(Map<String, Object> params) {
+        lock.lock();
+        try {
+            InFlight request = inFlight.get(String.valueOf(params.get("requestId")));
+            if (request != null && params.get("response") instanceof Map<?, ?> response
+                    && ((Map<String, Object>) response).get("status") instanceof Number status) {
+                request.status = status.intValue();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onDone(Map<String, Object> params, boolean failed) {
+        lock.lock();
+        try {
+            InFlight request = inFlight.remove(String.valueOf(params.get("requestId")));
+            if (request == null) {
+                return;
+            }
+            completed.addLast(new Exchange(++sequence, request.method, request.url, request.status, failed,
+                    System.nanoTime() - request.start));
+            while (completed.size() > HISTORY) {
+                completed.removeFirst();
+            }
+            activity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Gọi khi đang giữ lock
+    private void activity() {
+        lastActivity = System.nanoTime();
+        changed.signalAll();
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Mốc trước một hành động (click Submit, ...): awaitRequest(mark, ...) chỉ xét request xong sau mốc này
+    public long mark() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void awaitNetworkIdle() {
+        awaitNetworkIdle(Duration.ofMillis(Config.getLong("network.quietMs", 100)), Waits.Condition.NETWORK_IDLE.timeout());
+    }
+
+    public void awaitNetworkIdle(Duration quietPeriod, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long quiet = quietPeriod.toNanos();
+        lock.lock();
+        try {
+            awaitIdleLocked(start, deadline, quiet, timeout);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitIdleLocked(long start, long deadline, long quiet, Duration timeout) {
+        while (true) {
+            long now = System.nanoTime();
+            if (inFlight.isEmpty() && now - lastActivity >= quiet) {
+                Waits.record("network_idle", "xhr/fetch", start, "ok");
+                return;
+            }
+            if (now >= deadline) {
+                Waits.record("network_idle", "xhr/fetch", start, "timeout");
+                throw new TimeoutException("Network not idle after " + timeout.toMillis() + " ms, in flight: " + describeInFlight());
+            }
+            // Không còn request nào: chỉ cần ngủ tới hết khoảng yên lặng; còn request: ngủ tới khi có event
+            waitUntil(inFlight.isEmpty() ? Math.min(deadline, lastActivity + quiet) : deadline);
+        }
+    }
+
+    public Exchange awaitRequest(long since, String methodPattern, String urlPattern) {
+        return awaitRequest(since, methodPattern, urlPattern, Waits.Condition.REQUEST_COMPLETED.timeout());
+    }
+
+    // methodPattern vd. "POST|PUT", urlPattern là regex tìm trong URL vd. "/students(/\\d+)?$"
+    public Exchange awaitRequest(long since, String methodPattern, String urlPattern, Duration timeout) {
+        Pattern method = Pattern.compile(methodPattern, Pattern.CASE_INSENSITIVE);
+        Pattern url = Pattern.compile(urlPattern);
+        String target = methodPattern + " " + urlPattern;
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        lock.lock();
+        try {
+            return awaitRequestLocked(since, method, url, target, start, deadline, timeout);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Exchange awaitRequestLocked(long since, Pattern method, Pattern url, String target, long start, long deadline,
+                                        Duration timeout) {
+        while (true) {
+            for (Exchange exchange : completed) {
+                if (exchange.sequence() > since && method.matcher(exchange.method()).matches() && url.matcher(exchange.url()).find()) {
+                    Waits.record("request_completed", target, start, "ok");
+                    return exchange;
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                Waits.record("request_completed", target, start, "timeout");
+                throw new TimeoutException("No " + target + " completed within " + timeout.toMillis() + " ms, in flight: " + describeInFlight());
+            }
+            waitUntil(deadline);
+        }
+    }
+
+    private void waitUntil(long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            changed.awaitNanos(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for network", e);
+        }
+    }
+
+    private String describeInFlight() {
+        if (inFlight.isEmpty()) {
+            return "none";
+        }
+        StringBuilder out = new StringBuilder();
+        inFlight.values().forEach(request -> out.append(request.method).append(' ').append(request.url).append("; "));
+        return out.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package base;
+
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Một luật của BackendStubs: request XHR/fetch có method khớp (regex, không phân biệt hoa thường) và URL chứa
+// urlPattern (regex) thì trả JSON dựng sẵn, báo lỗi mạng, hoặc cho đi tiếp tới backend thật (có thể sau một độ trễ).
+//   StubRule.when("GET", "/courses").respondJson(200, "[...]")
+//   StubRule.when("POST|PUT", "/students").fail("ConnectionRefused")
+//   StubRule.when("GET", "/students").delayed(Duration.ofSeconds(2))
+public record StubRule(Pattern method, Pattern url, int status, String body, Map<String, String> headers,
+                       String errorReason, Duration delay) {
+
+    public static StubRule when(String method, String urlPattern) {
+        return new StubRule(Pattern.compile(method, Pattern.CASE_INSENSITIVE), Pattern.compile(urlPattern),
+                0, null, Map.of(), null, Duration.ZERO);
+    }
+
+    // Mảng JSON thì kèm X-Total-Count như json-server để phân trang của app vẫn đúng
+    public StubRule respondJson(int status, String json) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json; charset=utf-8");
+        if (json.stripLeading().startsWith("[")) {
+            headers.put("X-Total-Count", String.valueOf(((List<?>) new Json().toType(json, List.class)).size()));
+        }
+        return new StubRule(method, url, status, json, Map.copyOf(headers), null, delay);
+    }
+
+    // errorReason là Network.ErrorReason của CDP: Failed, ConnectionRefused, TimedOut, BlockedByClient, ...
+    public StubRule fail(String errorReason) {
+        return new StubRule(method, url, 0, null, Map.of(), errorReason, delay);
+    }
+
+    public StubRule delayed(Duration delay) {
+        return new StubRule(method, url, status, body, headers, errorReason, delay);
+    }
+
+    public boolean matches(String requestMethod, String requestUrl) {
+        return method.matcher(requestMethod).matches() && url.matcher(requestUrl).find();
+    }
+
+    boolean fulfills() {
+        return body != null;
+    }
+
+    boolean fails() {
+        return errorReason != null;
+    }
+
+    @Override
+    public String toString() {
+        String action = fails() ? "fail " + errorReason : fulfills() ? "respond " + status : "continue";
+        return method.pattern() + " " + url.pattern() + " -> " + action
+                + (delay.isZero() ? "" : " after " + delay.toMillis() + " ms");
+    }
+}
@@ -0,0 +1,156 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.Config;
+import utils.Timings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Chờ theo điều kiện: poll ngay lập tức, giãn dần khoảng poll, dừng ngay khi điều kiện đúng
+public class Waits {
+    private static final By MODAL_OVERLAY = By.id("student-modal-overlay");
+    private static final By ALERT_NOTIFICATION = By.className("alert-notification");
+
+    // Không còn animation CSS/Web Animations nào đang chạy, và không còn class motion của Ant Design
+    private static final String ANIMATIONS_FINISHED_SCRIPT =
+            "var running = document.getAnimations ? document.getAnimations().some(function (a) { return a.playState === 'running'; }) : false;" +
+            "return !running && !document.querySelector(\"[class*='-enter-active'], [class*='-leave-active'], [class*='-appear-active'], .alert-notification.removing\");";
+
+    private static final long FIRST_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 250;
+
+    private static final Timings TIMINGS = Timings.of("waits");
+
+    public enum Condition {
+        MODAL_VISIBLE(10_000),
+        MODAL_HIDDEN(10_000),
+        NOTIFICATION_VISIBLE(10_000),
+        ANIMATIONS_FINISHED(3_000),
+        ELEMENT_VISIBLE(10_000),
+        ELEMENT_CLICKABLE(10_000),
+        NETWORK_IDLE(10_000),
+        REQUEST_COMPLETED(10_000);
+
+        private final long defaultTimeoutMillis;
+
+        Condition(long defaultTimeoutMillis) {
+            this.defaultTimeoutMillis = defaultTimeoutMillis;
+        }
+
+        // Ghi đè bằng -Dwait.modal_visible.timeoutMs=...
+        public Duration timeout() {
+            return Duration.ofMillis(Config.getLong("wait." + name().toLowerCase() + ".timeoutMs", defaultTimeoutMillis));
+        }
+    }
+
+    private final WebDriver driver;
+
+    public Waits(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public void forModalVisible() {
+        until(Condition.MODAL_VISIBLE, "student-modal-overlay", () -> isDisplayed(MODAL_OVERLAY) ? Boolean.TRUE : null);
+        forAnimationsToFinish();
+    }
+
+    public void forModalHidden() {
+        until(Condition.MODAL_HIDDEN, "student-modal-overlay", () -> isDisplayed(MODAL_OVERLAY) ? null : Boolean.TRUE);
+    }
+
+    public void forNotificationVisible() {
+        until(Condition.NOTIFICATION_VISIBLE, "alert-notification", () -> isDisplayed(ALERT_NOTIFICATION) ? Boolean.TRUE : null);
+    }
+
+    public void forAnimationsToFinish() {
+        until(Condition.ANIMATIONS_FINISHED, "page", () ->
+                Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(ANIMATIONS_FINISHED_SCRIPT)) ? Boolean.TRUE : null);
+    }
+
+    public WebElement forVisible(By locator) {
+        return until(Condition.ELEMENT_VISIBLE, locator.toString(), () -> {
+            WebElement element = driver.findElement(locator);
+            return element.isDisplayed() ? element : null;
+        });
+    }
+
+    public WebElement forClickable(By locator) {
+        return until(Condition.ELEMENT_CLICKABLE, locator.toString(), () -> {
+            WebElement element = driver.findElement(locator);
+            return element.isDisplayed() && element.isEnabled() ? element : null;
+        });
+    }
+
+    public <T> T until(Condition condition, String target, Supplier<T> check) {
+        return until(condition.name().toLowerCase(), target, condition.timeout(), check);
+    }
+
+    // check trả về null/false nghĩa là chưa đạt; NoSuchElement và StaleElement được bỏ qua khi poll
+    public <T> T until(String name, String target, Duration timeout, Supplier<T> check) {
+        // Mọi lần poll được tính cho method page object đang chờ, chỉ tìm method đó một lần
+        boolean tagged = CommandMetrics.enterCaller();
+        try {
+            return poll(name, target, timeout, check);
+        } finally {
+            CommandMetrics.exitCaller(tagged);
+        }
+    }
+
+    private <T> T poll(String name, String target, Duration timeout, Supplier<T> check) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = FIRST_POLL_MILLIS;
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T value = check.get();
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(name, target, start, "ok");
+                    return value;
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            long now = System.nanoTime();
+            if (now >= deadline) {
+                record(name, target, start, "timeout");
+                throw new TimeoutException("Waited " + timeout.toMillis() + " ms for " + name + " (" + target + ")", lastError);
+            }
+            LockSupport.parkNanos(Math.min(TimeUnit.MILLISECONDS.toNanos(pollMillis), deadline - now));
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted while waiting for " + name + " (" + target + ")");
+            }
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    private boolean isDisplayed(By locator) {
+        List<WebElement> elements = driver.findElements(locator);
+        for (WebElement element : elements) {
+            if (element.isDisplayed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void record(String name, String target, long start, String outcome) {
+        long elapsed = System.nanoTime() - start;
+        TIMINGS.record(name + (outcome.equals("ok") ? "" : " [" + outcome + "]"), elapsed);
+        CommandMetrics.record("wait." + name, target, elapsed);
+        if (Config.getBoolean("wait.verbose", false)) {
+            System.out.printf("[wait] %s %s %s in %.1f ms%n", name, target, outcome, elapsed / 1_000_000.0);
+        }
+    }
+}
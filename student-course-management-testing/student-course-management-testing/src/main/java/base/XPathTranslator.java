@@ -0,0 +1,192 @@
+package base;
+
+// Dịch tập con XPath có CSS tương đương chính xác:
+//   //a  -> "a" (descendant),  /a -> "> a",  /following-sibling::a -> "~ a"
+//   [@x='v'] -> [x='v'],  [@x] -> [x],  [contains(@x,'v')] -> [x*='v'],  [starts-with(@x,'v')] -> [x^='v'],  and
+// Những gì CSS không diễn đạt được (text(), normalize-space(), vị trí [n], ancestor/following/parent, or, |)
+// thì trả về lý do để LocatorRegistry giữ nguyên XPath
+final class XPathTranslator {
+    record Result(String css, String reason) {
+        boolean translated() {
+            return css != null;
+        }
+    }
+
+    private final String xpath;
+    private int pos;
+
+    private XPathTranslator(String xpath) {
+        this.xpath = xpath.trim();
+    }
+
+    static Result translate(String xpath) {
+        try {
+            return new Result(new XPathTranslator(xpath).path(), null);
+        } catch (IllegalArgumentException e) {
+            return new Result(null, e.getMessage());
+        }
+    }
+
+    private String path() {
+        if (!xpath.startsWith("//")) {
+            throw unsupported("path not starting with //");
+        }
+        StringBuilder css = new StringBuilder();
+        while (pos < xpath.length()) {
+            String combinator;
+            if (xpath.startsWith("//", pos)) {
+                pos += 2;
+                combinator = " ";
+            } else if (xpath.startsWith("/", pos)) {
+                pos += 1;
+                combinator = " > ";
+            } else {
+                throw unsupported("'" + xpath.substring(pos) + "'");
+            }
+            int axisEnd = xpath.indexOf("::", pos);
+            if (axisEnd >= 0 && axisEnd < nextStepBoundary()) {
+                String axis = xpath.substring(pos, axisEnd);
+                if (axis.equals("following-sibling") && combinator.equals(" > ")) {
+                    combinator = " ~ ";
+                } else if (!axis.equals("child") || !combinator.equals(" > ")) {
+                    throw unsupported(axis + " axis");
+                }
+                pos = axisEnd + 2;
+            }
+            if (css.length() > 0) {
+                css.append(combinator);
+            }
+            css.append(step());
+        }
+        return css.toString();
+    }
+
+    private int nextStepBoundary() {
+        int end = pos;
+        while (end < xpath.length() && xpath.charAt(end) != '/' && xpath.charAt(end) != '[') {
+            end++;
+        }
+        return end;
+    }
+
+    private String step() {
+        String name = name();
+        if (name.isEmpty() && peek() == '*') {
+            pos++;
+            name = "*";
+        }
+        if (name.isEmpty()) {
+            throw unsupported("step '" + xpath.substring(pos) + "'");
+        }
+        if (peek() == '(') {
+            throw unsupported(name + "()");
+        }
+        StringBuilder css = new StringBuilder(name.equals("*") ? "" : name);
+        while (peek() == '[') {
+            pos++;
+            do {
+                css.append(condition());
+            } while (keyword("and"));
+            skipSpaces();
+            expect(']');
+        }
+        return css.length() == 0 ? "*" : css.toString();
+    }
+
+    private String condition() {
+        skipSpaces();
+        if (peek() == '@') {
+            pos++;
+            String attribute = name();
+            skipSpaces();
+            if (peek() != '=') {
+                return "[" + attribute + "]";
+            }
+            pos++;
+            return "[" + attribute + "=" + quote(literal()) + "]";
+        }
+        if (Character.isDigit(peek())) {
+            throw unsupported("positional predicate");
+        }
+        String function = name();
+        if (function.equals("contains") || function.equals("starts-with")) {
+            skipSpaces();
+            expect('(');
+            skipSpaces();
+            if (peek() != '@') {
+                throw unsupported(function + "() on " + (peek() == 't' ? "text()" : "non-attribute"));
+            }
+            pos++;
+            String attribute = name();
+            skipSpaces();
+            expect(',');
+            String value = literal();
+            skipSpaces();
+            expect(')');
+            return "[" + attribute + (function.equals("contains") ? "*=" : "^=") + quote(value) + "]";
+        }
+        throw unsupported(function.isEmpty() ? "predicate '" + xpath.substring(pos) + "'" : function + "()");
+    }
+
+    private String name() {
+        int start = pos;
+        while (pos < xpath.length()) {
+            char c = xpath.charAt(pos);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                break;
+            }
+            pos++;
+        }
+        return xpath.substring(start, pos);
+    }
+
+    private String literal() {
+        skipSpaces();
+        char quote = peek();
+        if (quote != '\'' && quote != '"') {
+            throw unsupported("non-literal value");
+        }
+        int end = xpath.indexOf(quote, pos + 1);
+        if (end < 0) {
+            throw unsupported("unterminated literal");
+        }
+        String value = xpath.substring(pos + 1, end);
+        pos = end + 1;
+        return value;
+    }
+
+    private boolean keyword(String word) {
+        skipSpaces();
+        if (xpath.startsWith(word, pos) && pos + word.length() < xpath.length()
+                && Character.isWhitespace(xpath.charAt(pos + word.length()))) {
+            pos += word.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw unsupported("expected '" + c + "' at " + pos);
+        }
+        pos++;
+    }
+
+    private char peek() {
+        return pos < xpath.length() ? xpath.charAt(pos) : '\0';
+    }
+
+    private void skipSpaces() {
+        while (pos < xpath.length() && Character.isWhitespace(xpath.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    static String quote(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    private static IllegalArgumentException unsupported(String what) {
+        return new IllegalArgumentException("no CSS equivalent for " + what);
+    }
+}
@@ -0,0 +1,228 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// Sinh covering array t-wise theo kiểu tham lam của AETG: mỗi hàng mới bắt đầu từ một bộ t giá trị chưa được phủ,
+// các cột còn lại lần lượt chọn giá trị phủ thêm nhiều bộ nhất; thử vài ứng viên và giữ hàng tốt nhất.
+// Tham lam không tối ưu nên chạy lại nhiều lần với seed con rồi giữ mảng ít hàng nhất: mỗi hàng bớt được là một lần
+// chạy browser. Random chỉ dùng để phá thế hòa và sinh seed con, nên cùng levels/strength/seed luôn cho cùng một mảng
+final class CoveringArray {
+    private final int[] levels;
+    private final int strength;
+    private final Random random;
+    // Mọi tổ hợp t cột, và với mỗi tổ hợp các bộ giá trị chưa được phủ (đánh số theo hệ cơ số hỗn hợp)
+    private final List<int[]> combos = new ArrayList<>();
+    private final List<BitSet> uncovered = new ArrayList<>();
+    private final List<List<Integer>> combosByColumn = new ArrayList<>();
+    private long remaining;
+
+    private CoveringArray(int[] levels, int strength, long seed) {
+        this.levels = levels.clone();
+        this.strength = Math.min(strength, levels.length);
+        this.random = new Random(seed);
+        for (int column = 0; column < levels.length; column++) {
+            combosByColumn.add(new ArrayList<>());
+        }
+        collectCombos(new int[this.strength], 0, 0);
+    }
+
+    // levels[i] là số giá trị của cột i; mỗi hàng trả về là chỉ số giá trị cho từng cột
+    static List<int[]> generate(int[] levels, int strength, long seed, int candidates, int restarts) {
+        Random seeds = new Random(seed);
+        List<int[]> best = null;
+        for (int attempt = 0; attempt < Math.max(1, restarts); attempt++) {
+            List<int[]> rows = generate(levels, strength, seeds.nextLong(), candidates);
+            if (best == null || rows.size() < best.size()) {
+                best = rows;
+            }
+        }
+        return best;
+    }
+
+    static List<int[]> generate(int[] levels, int strength, long seed, int candidates) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Strength must be at least 1, was " + strength);
+        }
+        for (int level : levels) {
+            if (level < 1) {
+                throw new IllegalArgumentException("Every column needs at least one value");
+            }
+        }
+        return new CoveringArray(levels, strength, seed).build(Math.max(1, candidates));
+    }
+
+    private void collectCombos(int[] combo, int depth, int from) {
+        if (depth == combo.length) {
+            int index = combos.size();
+            combos.add(combo.clone());
+            BitSet tuples = new BitSet();
+            int size = tupleCount(combo);
+            tuples.set(0, size);
+            uncovered.add(tuples);
+            remaining += size;
+            for (int column : combo) {
+                combosByColumn.get(column).add(index);
+            }
+            return;
+        }
+        for (int column = from; column < levels.length; column++) {
+            combo[depth] = column;
+            collectCombos(combo, depth + 1, column + 1);
+        }
+    }
+
+    private List<int[]> build(int candidates) {
+        List<int[]> rows = new ArrayList<>();
+        while (remaining > 0) {
+            int[] best = null;
+            int bestGain = -1;
+            for (int attempt = 0; attempt < candidates; attempt++) {
+                int[] row = candidate();
+                int gain = gain(row);
+                if (gain > bestGain) {
+                    best = row;
+                    bestGain = gain;
+                }
+            }
+            cover(best);
+            rows.add(best);
+        }
+        return withoutRedundantRows(rows);
+    }
+
+    // Hàng sinh sớm có thể bị các hàng sau phủ hết: bỏ những hàng mà mọi bộ t giá trị của nó đều có ở hàng khác
+    private List<int[]> withoutRedundantRows(List<int[]> rows) {
+        List<int[]> kept = new ArrayList<>(rows);
+        for (int i = 0; i < kept.size(); ) {
+            int[] row = kept.remove(i);
+            if (coversAll(kept)) {
+                continue;
+            }
+            kept.add(i, row);
+            i++;
+        }
+        return kept;
+    }
+
+    private boolean coversAll(List<int[]> rows) {
+        for (int[] combo : combos) {
+            BitSet seen = new BitSet();
+            for (int[] row : rows) {
+                seen.set(tupleIndex(combo, row));
+            }
+            if (seen.cardinality() < tupleCount(combo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] candidate() {
+        int[] row = new int[levels.length];
+        Arrays.fill(row, -1);
+        seedWithUncoveredTuple(row);
+
+        List<Integer> open = new ArrayList<>();
+        for (int column = 0; column < levels.length; column++) {
+            if (row[column] < 0) {
+                open.add(column);
+            }
+        }
+        Collections.shuffle(open, random);
+        for (int column : open) {
+            int offset = random.nextInt(levels[column]);
+            int bestValue = offset;
+            int bestGain = -1;
+            for (int i = 0; i < levels[column]; i++) {
+                int value = (offset + i) % levels[column];
+                row[column] = value;
+                int gain = partialGain(row, column);
+                if (gain > bestGain) {
+                    bestValue = value;
+                    bestGain = gain;
+                }
+            }
+            row[column] = bestValue;
+        }
+        return row;
+    }
+
+    private void seedWithUncoveredTuple(int[] row) {
+        int start = random.nextInt(combos.size());
+        for (int i = 0; i < combos.size(); i++) {
+            int index = (start + i) % combos.size();
+            BitSet tuples = uncovered.get(index);
+            if (tuples.isEmpty()) {
+                continue;
+            }
+            int size = tupleCount(combos.get(index));
+            int tuple = tuples.nextSetBit(random.nextInt(size));
+            if (tuple < 0) {
+                tuple = tuples.nextSetBit(0);
+            }
+            int[] combo = combos.get(index);
+            for (int k = combo.length - 1; k >= 0; k--) {
+                row[combo[k]] = tuple % levels[combo[k]];
+                tuple /= levels[combo[k]];
+            }
+            return;
+        }
+    }
+
+    // Số bộ chưa phủ mà cột vừa gán hoàn tất (các cột khác của tổ hợp đã có giá trị)
+    private int partialGain(int[] row, int column) {
+        int gain = 0;
+        for (int index : combosByColumn.get(column)) {
+            int tuple = tupleIndex(combos.get(index), row);
+            if (tuple >= 0 && uncovered.get(index).get(tuple)) {
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    private int gain(int[] row) {
+        int gain = 0;
+        for (int index = 0; index < combos.size(); index++) {
+            if (uncovered.get(index).get(tupleIndex(combos.get(index), row))) {
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    private void cover(int[] row) {
+        for (int index = 0; index < combos.size(); index++) {
+            int tuple = tupleIndex(combos.get(index), row);
+            if (uncovered.get(index).get(tuple)) {
+                uncovered.get(index).clear(tuple);
+                remaining--;
+            }
+        }
+    }
+
+    // -1 nếu còn cột trong tổ hợp chưa được gán
+    private int tupleIndex(int[] combo, int[] row) {
+        int tuple = 0;
+        for (int column : combo) {
+            if (row[column] < 0) {
+                return -1;
+            }
+            tuple = tuple * levels[column] + row[column];
+        }
+        return tuple;
+    }
+
+    private int tupleCount(int[] combo) {
+        int count = 1;
+        for (int column : combo) {
+            count *= levels[column];
+        }
+        return count;
+    }
+}
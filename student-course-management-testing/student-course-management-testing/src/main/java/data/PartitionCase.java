@@ -0,0 +1,57 @@
+package data;
+
+import models.Student;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Một case phân vùng tương đương / biên: dữ liệu form và kết quả mong đợi
+// expectedErrors rỗng nghĩa là submit thành công
+public record PartitionCase(String id, Student student, Map<String, String> expectedErrors) {
+
+    public static final String SUCCESS = "success";
+
+    public PartitionCase {
+        expectedErrors = Collections.unmodifiableMap(new LinkedHashMap<>(expectedErrors));
+    }
+
+    public boolean expectsSuccess() {
+        return expectedErrors.isEmpty();
+    }
+
+    // "success" hoặc "first-name=FirstName cannot be empty;phone=Phone cannot be empty"
+    public static Map<String, String> parseExpected(String expected) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (expected == null || expected.isBlank() || expected.trim().equalsIgnoreCase(SUCCESS)) {
+            return errors;
+        }
+        for (String part : expected.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected outcome must be 'success' or 'field=message', got: " + part);
+            }
+            errors.put(part.substring(0, separator).trim(), part.substring(separator + 1).trim());
+        }
+        return errors;
+    }
+
+    public String expectedAsText() {
+        if (expectsSuccess()) {
+            return SUCCESS;
+        }
+        StringBuilder text = new StringBuilder();
+        expectedErrors.forEach((field, message) -> {
+            if (!text.isEmpty()) {
+                text.append(';');
+            }
+            text.append(field).append('=').append(message);
+        });
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -0,0 +1,215 @@
+package data;
+
+import models.Student;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import utils.Config;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Đọc case từ file CSV/JSON (classpath hoặc đường dẫn file) theo kiểu lazy: mỗi lần chỉ parse một case.
+// "tway" hoặc "tway:<strength>" thay cho tên file: case sinh bởi StudentFormModel
+public class PartitionSource {
+    public static final List<String> COLUMNS = List.of(
+            "id", "firstName", "lastName", "age", "gender", "email", "phone", "course", "enrollmentDate", "active", "expected");
+
+    private PartitionSource() {
+    }
+
+    public static Stream<PartitionCase> load(List<String> resources) {
+        return resources.stream().flatMap(PartitionSource::load);
+    }
+
+    public static Stream<PartitionCase> load(String resource) {
+        if (resource.equals("tway") || resource.startsWith("tway:")) {
+            int strength = resource.equals("tway") ? Config.getInt("tway.strength", 2) : Integer.parseInt(resource.substring(5));
+            return StudentFormModel.cases(strength, Config.getLong("tway.seed", 1));
+        }
+        BufferedReader reader = open(resource);
+        Stream<PartitionCase> cases = resource.toLowerCase().endsWith(".json") ? json(reader) : csv(reader);
+        return cases.onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static BufferedReader open(String resource) {
+        try {
+            Path path = Path.of(resource);
+            if (Files.isRegularFile(path)) {
+                return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            }
+            InputStream stream = PartitionSource.class.getClassLoader().getResourceAsStream(resource);
+            if (stream == null) {
+                throw new IllegalArgumentException("Partition source not found on classpath or disk: " + resource);
+            }
+            return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Stream<PartitionCase> csv(BufferedReader reader) {
+        Iterator<String> lines = reader.lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .iterator();
+        if (!lines.hasNext()) {
+            return Stream.empty();
+        }
+        List<String> header = splitCsv(lines.next());
+        Iterable<String> rows = () -> lines;
+        return StreamSupport.stream(rows.spliterator(), false).map(line -> {
+            List<String> cells = splitCsv(line);
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < cells.size(); i++) {
+                row.put(header.get(i), cells.get(i));
+            }
+            return toCase(row);
+        });
+    }
+
+    private static Stream<PartitionCase> json(BufferedReader reader) {
+        JsonInput input = new Json().newInput(reader);
+        input.beginArray();
+        Iterator<PartitionCase> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return input.hasNext();
+            }
+
+            @Override
+            public PartitionCase next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Map<String, Object> row = input.read(Json.MAP_TYPE);
+                return toCase(row);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(input::close);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PartitionCase toCase(Map<String, Object> row) {
+        Student student = new Student(
+                cell(row, "firstName"),
+                cell(row, "lastName"),
+                cell(row, "age"),
+                cell(row, "gender"),
+                cell(row, "email"),
+                cell(row, "phone"),
+                cell(row, "course"),
+                cell(row, "enrollmentDate"),
+                !"false".equalsIgnoreCase(cell(row, "active")));
+        Map<String, String> expected = new LinkedHashMap<>();
+        if (row.get("errors") instanceof Map<?, ?> errors) {
+            ((Map<String, Object>) errors).forEach((field, message) -> expected.put(field, String.valueOf(message)));
+        } else {
+            expected.putAll(PartitionCase.parseExpected(cell(row, "expected")));
+        }
+        String id = cell(row, "id");
+        if (id == null) {
+            throw new IllegalArgumentException("Partition case without id: " + row);
+        }
+        return new PartitionCase(id, student, expected);
+    }
+
+    // Ô trống trong file nghĩa là để trống field trên form
+    private static String cell(Map<String, Object> row, String column) {
+        Object value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        String text = String.valueOf(value);
+        return text.isEmpty() ? null : text;
+    }
+
+    // Ghi case ra CSV đọc lại được bằng load(), kèm dòng chú thích ở đầu file; trả về số case đã ghi
+    public static int writeCsv(Stream<PartitionCase> cases, Path file, String comment) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("# " + comment);
+                writer.newLine();
+                writer.write(String.join(",", COLUMNS));
+                writer.newLine();
+                int count = 0;
+                for (PartitionCase partition : (Iterable<PartitionCase>) cases::iterator) {
+                    Student student = partition.student();
+                    List<String> cells = Arrays.asList(partition.id(), student.firstName(), student.lastName(),
+                            student.age(), student.gender(), student.email(), student.phone(), student.course(),
+                            student.enrollmentDate(), String.valueOf(student.active()), partition.expectedAsText());
+                    writer.write(cells.stream().map(PartitionSource::quoteCsv).collect(Collectors.joining(",")));
+                    writer.newLine();
+                    count++;
+                }
+                return count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String quoteCsv(String cell) {
+        if (cell == null) {
+            return "";
+        }
+        return cell.contains(",") || cell.contains("\"") ? "\"" + cell.replace("\"", "\"\"") + "\"" : cell;
+    }
+
+    // CSV đơn giản: hỗ trợ ô trong dấu nháy kép và "" để escape dấu nháy
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
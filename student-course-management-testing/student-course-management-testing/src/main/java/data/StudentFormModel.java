@@ -0,0 +1,175 @@
+package data;
+
+import models.Student;
+import utils.Config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Mô hình lớp tương đương / biên cho 8 field của form Add Student (cùng quy tắc với validateForm của StudentsPage.js),
+// dùng để sinh case thay vì chọn tay:
+//  - các giá trị hợp lệ được tổ hợp t-wise (mặc định pairwise) bằng CoveringArray: mỗi hàng là một case submit thành công;
+//  - mỗi giá trị không hợp lệ xuất hiện đúng một lần trong một hàng hợp lệ (single fault), nên mỗi case lỗi chỉ mong
+//    đợi đúng một thông báo và lỗi này không che lỗi khác.
+// Cùng strength và seed luôn sinh ra cùng các case. Chạy qua PartitionSource với -Dpartitions=tway hoặc tway:3,
+// hoặc ghi ra CSV: java data.StudentFormModel <file.csv> [strength] [seed]
+public final class StudentFormModel {
+    private static final int CANDIDATES = 25;
+    private static final int RESTARTS = 16;
+
+    // label dùng trong id của case lỗi; error null nghĩa là giá trị hợp lệ
+    record Choice(String label, String value, String error) {
+        boolean valid() {
+            return error == null;
+        }
+    }
+
+    record Field(String name, String errorKey, List<Choice> choices) {
+        List<Choice> valid() {
+            return choices.stream().filter(Choice::valid).toList();
+        }
+
+        List<Choice> invalid() {
+            return choices.stream().filter(choice -> !choice.valid()).toList();
+        }
+    }
+
+    static final List<Field> FIELDS = List.of(
+            new Field("firstName", "first-name", List.of(
+                    ok("typical", "Minh"),
+                    ok("single-letter", "A"),
+                    ok("mixed-case-long", "NguyenThanhLongAlexanderMcDonald"),
+                    bad("empty", null, "FirstName cannot be empty"),
+                    bad("symbols", "@@@@@@@@", "FirstName must follow the format [A-Za-z]"),
+                    bad("digit", "Minh2", "FirstName must follow the format [A-Za-z]"),
+                    bad("space", "Minh Huy", "FirstName must follow the format [A-Za-z]"))),
+            new Field("lastName", "last-name", List.of(
+                    ok("typical", "Huy"),
+                    ok("single-letter", "B"),
+                    ok("mixed-case", "VanDerBerg"),
+                    bad("empty", null, "LastName cannot be empty"),
+                    bad("symbols", "@@@@@", "Lastname must follow the format [A-Za-z]"),
+                    bad("accented", "Huỳnh", "Lastname must follow the format [A-Za-z]"))),
+            new Field("age", "age", List.of(
+                    ok("min", "1"),
+                    ok("typical", "20"),
+                    ok("large", "120"),
+                    bad("empty", null, "Age cannot be empty"),
+                    bad("zero", "0", "Age must be a positive integer"),
+                    bad("negative", "-15", "Age must be a positive integer"),
+                    bad("fraction", "2.5", "Age must be a positive integer"))),
+            new Field("gender", "gender", List.of(
+                    ok("male", "Male"),
+                    ok("female", "Female"),
+                    ok("other", "Other"),
+                    bad("none", null, "Gender must be selected"))),
+            new Field("email", "email", List.of(
+                    ok("typical", "minnhiuu@gmail.com"),
+                    ok("subdomain-plus", "minh.huy+test@mail.example.org"),
+                    bad("empty", null, "Email cannot be empty"),
+                    bad("double-at", "hahaa@@@gmail.com", "Email must be in the correct format"),
+                    bad("no-dot", "minh@gmail", "Email must be in the correct format"),
+                    bad("space", "minh huy@gmail.com", "Email must be in the correct format"))),
+            new Field("phone", "phone", List.of(
+                    ok("min-length", "0123456789"),
+                    ok("mid-length", "01234567891"),
+                    ok("max-length", "012345678912"),
+                    bad("empty", null, "Phone cannot be empty"),
+                    bad("too-short", "012345678", "Phone must be 10-12 digits and in the range [0-9]"),
+                    bad("too-long", "0123456789123", "Phone must be 10-12 digits and in the range [0-9]"),
+                    bad("symbols", "12321@", "Phone must be 10-12 digits and in the range [0-9]"),
+                    bad("plus-prefix", "+84703553341", "Phone must be 10-12 digits and in the range [0-9]"))),
+            new Field("course", "course", List.of(
+                    ok("first", "CS101 - Introduction to Computer Science"),
+                    ok("typical", "CS201 - Data Structures and Algorithms"),
+                    ok("last", "SEC201 - Cybersecurity Fundamentals"),
+                    bad("none", null, "Course must be selected"))),
+            new Field("enrollmentDate", "enrollment-date", List.of(
+                    ok("past", "2024-01-15"),
+                    ok("leap-day", "2028-02-29"),
+                    ok("year-end", "2040-12-31"),
+                    bad("empty", null, "Enrollment Date must be selected"))));
+
+    private StudentFormModel() {
+    }
+
+    private static Choice ok(String label, String value) {
+        return new Choice(label, value, null);
+    }
+
+    private static Choice bad(String label, String value, String error) {
+        return new Choice(label, value, error);
+    }
+
+    // -Dtway.strength (mặc định 2) và -Dtway.seed (mặc định 1)
+    public static Stream<PartitionCase> cases() {
+        return cases(Config.getInt("tway.strength", 2), Config.getLong("tway.seed", 1));
+    }
+
+    public static Stream<PartitionCase> cases(int strength, long seed) {
+        int[] levels = FIELDS.stream().mapToInt(field -> field.valid().size()).toArray();
+        List<int[]> rows = CoveringArray.generate(levels, strength, seed, CANDIDATES, RESTARTS);
+        String prefix = "T" + strength + "S" + seed;
+
+        List<PartitionCase> cases = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            cases.add(toCase(String.format("%s-Valid%02d", prefix, i + 1), validChoices(rows.get(i))));
+        }
+        // Giá trị lỗi thay vào lần lượt các hàng hợp lệ, để phần còn lại của case lỗi cũng đa dạng
+        int next = 0;
+        for (int column = 0; column < FIELDS.size(); column++) {
+            Field field = FIELDS.get(column);
+            for (Choice invalid : field.invalid()) {
+                List<Choice> choices = validChoices(rows.get(next++ % rows.size()));
+                choices.set(column, invalid);
+                cases.add(toCase(prefix + "-Invalid-" + field.name() + "-" + invalid.label(), choices));
+            }
+        }
+        return cases.stream();
+    }
+
+    private static List<Choice> validChoices(int[] row) {
+        List<Choice> choices = new ArrayList<>();
+        for (int column = 0; column < FIELDS.size(); column++) {
+            choices.add(FIELDS.get(column).valid().get(row[column]));
+        }
+        return choices;
+    }
+
+    private static PartitionCase toCase(String id, List<Choice> choices) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int column = 0; column < FIELDS.size(); column++) {
+            if (!choices.get(column).valid()) {
+                errors.put(FIELDS.get(column).errorKey(), choices.get(column).error());
+            }
+        }
+        Student student = new Student(
+                choices.get(0).value(),
+                choices.get(1).value(),
+                choices.get(2).value(),
+                choices.get(3).value(),
+                choices.get(4).value(),
+                choices.get(5).value(),
+                choices.get(6).value(),
+                choices.get(7).value(),
+                true);
+        return new PartitionCase(id, student, errors);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: StudentFormModel <output.csv> [strength] [seed]");
+            System.exit(2);
+        }
+        int strength = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        Path output = Path.of(args[0]);
+        int written = PartitionSource.writeCsv(cases(strength, seed), output,
+                "Generated by data.StudentFormModel, strength=" + strength + ", seed=" + seed);
+        System.out.println("Wrote " + written + " cases to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,74 @@
+package fixtures;
+
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// Client REST mỏng cho backend (json-server); một HttpClient dùng chung để tái sử dụng kết nối keep-alive
+public class ApiClient {
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private static final Json JSON = new Json();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public List<Map<String, Object>> getList(String path) {
+        return join(send(request(path).GET().build())
+                .thenApply(body -> JSON.toType(body, Json.LIST_OF_MAPS_TYPE)));
+    }
+
+    public CompletableFuture<Map<String, Object>> postAsync(String path, Object body) {
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.toJson(body)))
+                .build();
+        return send(request).thenApply(response -> JSON.toType(response, Json.MAP_TYPE));
+    }
+
+    public CompletableFuture<Void> deleteAsync(String path) {
+        return send(request(path).DELETE().build()).thenApply(body -> null);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private CompletableFuture<String> send(HttpRequest request) {
+        return HTTP.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " returned " + response.statusCode() + ": " + response.body());
+            }
+            return response.body();
+        });
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package fixtures;
+
+import base.StubRule;
+import org.openqa.selenium.json.Json;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Backend giả cho trang Students khi test chỉ kiểm tra phía client (validation, hủy/đóng modal):
+// danh sách sinh viên, khóa học và enrollment trả JSON cố định (stubs/student-page.json),
+// còn mọi request khác tới API (POST/PUT/DELETE, ...) bị chặn để lộ ra nếu form lỡ gửi đi
+public final class StudentPageStubs {
+    private static final String DATA = "stubs/student-page.json";
+    private static final Json JSON = new Json();
+
+    private StudentPageStubs() {
+    }
+
+    public static StubRule[] clientOnly() {
+        Map<String, Object> data = load();
+        return new StubRule[]{
+                list("students", data),
+                list("courses", data),
+                list("enrollments", data),
+                blockedWrites()
+        };
+    }
+
+    // Khớp mọi request tới API mà các luật GET ở trên không trả lời
+    public static StubRule blockedWrites() {
+        return StubRule.when(".*", api("/")).fail("BlockedByClient");
+    }
+
+    private static StubRule list(String collection, Map<String, Object> data) {
+        return StubRule.when("GET", api("/" + collection) + "([?#].*)?$")
+                .respondJson(200, JSON.toJson(data.get(collection)));
+    }
+
+    // URL tuyệt đối theo api.url để không chặn nhầm request của dev server (hot reload, ...)
+    private static String api(String path) {
+        String base = Config.apiUrl();
+        return "^" + Pattern.quote(base.endsWith("/") ? base.substring(0, base.length() - 1) : base) + Pattern.quote(path);
+    }
+
+    private static Map<String, Object> load() {
+        try (InputStream stream = StudentPageStubs.class.getClassLoader().getResourceAsStream(DATA)) {
+            if (stream == null) {
+                throw new IllegalStateException(DATA + " not found on the classpath");
+            }
+            return JSON.toType(new String(stream.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package fixtures;
+
+import models.Course;
+import models.Student;
+import utils.Config;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Tạo / xóa dữ liệu test qua REST API thay vì đi qua UI; nhớ những gì đã tạo để dọn lại sau test
+public class TestDataFixture implements AutoCloseable {
+    private static final String STUDENTS = "/students";
+    private static final String COURSES = "/courses";
+
+    private final ApiClient api;
+    private final int batchSize;
+    private final Set<Long> createdStudents = ConcurrentHashMap.newKeySet();
+    private final Set<Long> createdCourses = ConcurrentHashMap.newKeySet();
+    private volatile Map<String, Long> courseIds;
+
+    public TestDataFixture() {
+        this(new ApiClient(Config.apiUrl()), Config.getInt("fixtures.batchSize", 16));
+    }
+
+    public TestDataFixture(ApiClient api, int batchSize) {
+        this.api = api;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public long seedStudent(Student student) {
+        return seedStudents(List.of(student)).get(0);
+    }
+
+    public List<Long> seedStudents(List<Student> students) {
+        List<Long> ids = inBatches(students, student -> api.postAsync(STUDENTS, toJson(student)).thenApply(TestDataFixture::id));
+        createdStudents.addAll(ids);
+        return ids;
+    }
+
+    public List<Long> seedCourses(List<Course> courses) {
+        List<Long> ids = inBatches(courses, course -> api.postAsync(COURSES, toJson(course)).thenApply(TestDataFixture::id));
+        createdCourses.addAll(ids);
+        courseIds = null;
+        return ids;
+    }
+
+    public void deleteStudents(Collection<Long> ids) {
+        inBatches(new ArrayList<>(ids), id -> api.deleteAsync(STUDENTS + "/" + id));
+        createdStudents.removeAll(ids);
+    }
+
+    public void deleteCourses(Collection<Long> ids) {
+        inBatches(new ArrayList<>(ids), id -> api.deleteAsync(COURSES + "/" + id));
+        createdCourses.removeAll(ids);
+        courseIds = null;
+    }
+
+    // id lớn nhất hiện có, dùng làm mốc để chỉ dọn những gì được tạo sau đó
+    public long lastStudentId() {
+        return api.getList(STUDENTS + "?_sort=id&_order=desc&_page=1&_limit=1").stream()
+                .mapToLong(TestDataFixture::id)
+                .findFirst()
+                .orElse(0);
+    }
+
+    // Dọn các sinh viên được tạo qua UI (không có id trong tay), ví dụ các partition hợp lệ của AddFormTest.
+    // db.json có sẵn nhiều sinh viên trùng email nên chỉ xóa những bản ghi có id sau mốc afterId
+    public int deleteStudentsByEmail(String email, long afterId) {
+        List<Long> ids = api.getList(STUDENTS + "?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)).stream()
+                .map(TestDataFixture::id)
+                .filter(id -> id > afterId)
+                .toList();
+        deleteStudents(ids);
+        return ids.size();
+    }
+
+    public void cleanup() {
+        deleteStudents(List.copyOf(createdStudents));
+        deleteCourses(List.copyOf(createdCourses));
+    }
+
+    @Override
+    public void close() {
+        cleanup();
+    }
+
+    private Map<String, Object> toJson(Student student) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("firstName", student.firstName());
+        json.put("lastName", student.lastName());
+        json.put("email", student.email());
+        json.put("phone", student.phone());
+        json.put("age", student.age() != null && student.age().matches("-?\\d+") ? Integer.valueOf(student.age()) : student.age());
+        json.put("gender", student.gender());
+        json.put("courseId", student.course() == null ? null : courseId(student.course()));
+        json.put("enrollmentDate", student.enrollmentDate());
+        json.put("status", student.active() ? "Active" : "Inactive");
+        return json;
+    }
+
+    private Map<String, Object> toJson(Course course) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("courseName", course.courseName());
+        json.put("courseCode", course.courseCode());
+        json.put("description", course.description());
+        json.put("instructor", course.instructor());
+        json.put("capacity", course.capacity());
+        json.put("startDate", course.startDate());
+        json.put("endDate", course.endDate());
+        json.put("status", course.status());
+        json.put("currentEnrollment", 0);
+        return json;
+    }
+
+    private Long courseId(String displayText) {
+        Map<String, Long> ids = courseIds;
+        if (ids == null) {
+            Map<String, Long> loaded = new ConcurrentHashMap<>();
+            for (Map<String, Object> course : api.getList(COURSES)) {
+                loaded.put(course.get("courseCode") + " - " + course.get("courseName"), id(course));
+            }
+            courseIds = ids = loaded;
+        }
+        Long id = ids.get(displayText);
+        if (id == null) {
+            throw new IllegalArgumentException("No course '" + displayText + "' on " + api.getBaseUrl());
+        }
+        return id;
+    }
+
+    // Gửi song song theo từng lô để không mở quá nhiều kết nối cùng lúc
+    private <T, R> List<R> inBatches(List<T> items, Function<T, CompletableFuture<R>> call) {
+        List<R> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<CompletableFuture<R>> batch = items.subList(from, Math.min(items.size(), from + batchSize)).stream()
+                    .map(call)
+                    .toList();
+            ApiClient.join(CompletableFuture.allOf(batch.toArray(new CompletableFuture<?>[0])));
+            batch.forEach(future -> results.add(future.join()));
+        }
+        return results;
+    }
+
+    private static long id(Map<String, Object> json) {
+        Object id = json.get("id");
+        if (id instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(String.valueOf(id));
+    }
+}
@@ -0,0 +1,10 @@
+package models;
+
+// Khóa học như backend lưu; text hiển thị trong dropdown của form là "courseCode - courseName"
+public record Course(String courseCode, String courseName, String description, String instructor,
+                     int capacity, String startDate, String endDate, String status) {
+
+    public String displayText() {
+        return courseCode + " - " + courseName;
+    }
+}
@@ -0,0 +1,12 @@
+package models;
+
+// Dữ liệu một sinh viên trên form; field null nghĩa là để trống field đó
+public record Student(String firstName, String lastName, String age, String gender,
+                      String email, String phone, String course, String enrollmentDate,
+                      boolean active) {
+
+    public static Student of(String firstName, String lastName, String age, String gender,
+                             String email, String phone, String course, String enrollmentDate) {
+        return new Student(firstName, lastName, age, gender, email, phone, course, enrollmentDate, true);
+    }
+}
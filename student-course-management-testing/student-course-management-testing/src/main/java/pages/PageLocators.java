@@ -0,0 +1,94 @@
+package pages;
+
+import base.LocatorRegistry;
+import org.openqa.selenium.By;
+
+import java.util.Map;
+
+// Toàn bộ locator của các page object, khai báo qua LocatorRegistry để XPath được dịch sang CSS khi tương đương
+public final class PageLocators {
+
+    private PageLocators() {
+    }
+
+    public static final class Home {
+        // Text "Students Management" chỉ XPath so khớp được, nên giữ XPath (xem báo cáo [locators])
+        public static final By STUDENT_CARD = LocatorRegistry.xpath("home.studentCard",
+                "//div[@class='ant-card-body']//h3[text()='Students Management']/ancestor::div[@class='ant-card-body']");
+
+        private Home() {
+        }
+    }
+
+    public static final class Students {
+        public static final By ADD_BUTTON = LocatorRegistry.id("students.addButton", "add-student-btn");
+        public static final By EDIT_FIRST_BUTTON = LocatorRegistry.xpath("students.editButton.1",
+                "//button[@id='edit-student-btn-1']");
+        public static final By SEARCH_INPUT = LocatorRegistry.id("students.searchInput", "student-search-input");
+
+        // Nút Edit của một sinh viên cụ thể; id thay đổi theo dữ liệu nên không đăng ký vào LocatorRegistry
+        public static By editButton(long studentId) {
+            return By.id("edit-student-btn-" + studentId);
+        }
+
+        private Students() {
+        }
+    }
+
+    public static final class StudentModal {
+        public static final By OVERLAY = LocatorRegistry.id("modal.overlay", "student-modal-overlay");
+        public static final By TITLE = LocatorRegistry.id("modal.title", "modal-title");
+        public static final By CLOSE_BUTTON = LocatorRegistry.id("modal.closeButton", "modal-close-btn");
+        public static final By CANCEL_BUTTON = LocatorRegistry.id("modal.cancelButton", "modal-cancel-btn");
+        public static final By OK_BUTTON = LocatorRegistry.id("modal.okButton", "modal-ok-btn");
+
+        public static final By FIRST_NAME = LocatorRegistry.id("modal.firstName", "modal-first-name");
+        public static final By LAST_NAME = LocatorRegistry.id("modal.lastName", "modal-last-name");
+        public static final By AGE = LocatorRegistry.id("modal.age", "modal-age");
+        public static final By EMAIL = LocatorRegistry.id("modal.email", "modal-email");
+        public static final By PHONE = LocatorRegistry.id("modal.phone", "modal-phone");
+        public static final By COURSE = LocatorRegistry.id("modal.course", "modal-course");
+        public static final By ENROLLMENT_DATE = LocatorRegistry.id("modal.enrollmentDate", "modal-enrollment-date");
+        public static final By STATUS = LocatorRegistry.id("modal.status", "modal-status");
+
+        public static final By MALE = LocatorRegistry.id("modal.gender.male", "modal-gender-male");
+        public static final By FEMALE = LocatorRegistry.id("modal.gender.female", "modal-gender-female");
+        public static final By OTHER = LocatorRegistry.id("modal.gender.other", "modal-gender-other");
+
+        private static final Map<String, By> ERRORS = Map.of(
+                // Nếu có <select id="modal-course"> (trường hợp native)
+                "course", LocatorRegistry.xpath("modal.error.course",
+                        "//select[@id='modal-course']/following-sibling::p[contains(@class,'text-red-500')]"),
+                // Radio group: p lỗi là sibling của group <div class='flex gap-4'>.
+                // XPath bám theo nhãn 'Gender'; bản CSS đi từ radio lên group bằng :has(), được kiểm tra lại trên DOM
+                "gender", LocatorRegistry.xpath("modal.error.gender",
+                        "//label[normalize-space()='Gender']/following::*[contains(@class,'gap-4')][1]" +
+                                "/following-sibling::p[contains(@class,'text-red-500')][1]",
+                        ".gap-4:has(> label > #modal-gender-male) ~ p.text-red-500"));
+
+        private StudentModal() {
+        }
+
+        // Các input thường có id="modal-<fieldName>"
+        public static By error(String fieldName) {
+            By locator = ERRORS.get(fieldName);
+            if (locator != null) {
+                return locator;
+            }
+            return LocatorRegistry.xpath("modal.error." + fieldName,
+                    "//input[@id='modal-" + fieldName + "']/following-sibling::p[contains(@class,'text-red-500')]");
+        }
+    }
+
+    public static final class Notification {
+        public static final By CONTAINER = LocatorRegistry.css("notification", ".alert-notification");
+        public static final By TITLE = LocatorRegistry.xpath("notification.title",
+                "//div[contains(@class, 'alert-notification')]//div[contains(@class, 'alert-title')]");
+        // Nội dung message được so ở phía Java (xem FormStudentModal) để locator không cần contains(text(), ...)
+        public static final By MESSAGE = LocatorRegistry.xpath("notification.message",
+                "//div[contains(@class, 'alert-notification')]//div[contains(@class, 'alert-message')]");
+
+        private Notification() {
+        }
+    }
+}
@@ -2,16 +2,24 @@ package pages.homepage;
 
 import base.BasePage;
 import org.openqa.selenium.By;
+import pages.PageLocators;
 import pages.students.StudentsManagementPage;
 
-import static utils.JavacriptUtil.scrollToElement;
-
 public class HomePage extends BasePage {
-    private By studentCard = By.xpath("//div[@class='ant-card-body']//h3[text()='Students Management']/ancestor::div[@class='ant-card-body']\n");
+    private By studentCard = PageLocators.Home.STUDENT_CARD;
+
+    public HomePage() {
+    }
+
+    protected HomePage(By... prefetchOnUse) {
+        super(prefetchOnUse);
+    }
 
     public StudentsManagementPage navigateToStudentsManagementPage() {
-        scrollToElement(studentCard);
+        scrollTo(studentCard);
         click(studentCard);
+        // Chuyển route: các element đã cache của trang chủ không còn dùng được
+        invalidateElements();
         return new StudentsManagementPage();
     }
 }
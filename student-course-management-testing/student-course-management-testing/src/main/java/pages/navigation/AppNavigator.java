@@ -0,0 +1,183 @@
+package pages.navigation;
+
+import base.BasePage;
+import base.LatencyProbes;
+import base.Waits;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import pages.homepage.HomePage;
+import pages.students.FormStudentModal;
+import pages.students.StudentsManagementPage;
+import utils.Config;
+import utils.Timings;
+
+import java.util.Map;
+
+// Mở thẳng route của app (và modal nếu cần) thay vì đi qua card ở trang chủ.
+// Mỗi lần mở chỉ tốn driver.get + một executeAsyncScript chờ trang sẵn sàng ngay trong browser.
+// -Dreset.mode=soft: nếu browser (lấy từ pool) vẫn đang mở app thì không tải lại trang mà chuyển route phía client,
+// chỉ dùng driver.get khi trang không đưa được về trạng thái ban đầu
+public class AppNavigator extends BasePage {
+    // Đóng modal/notification, xóa storage rồi đi qua một route không tồn tại trước khi tới route đích để
+    // React unmount trang cũ (kể cả khi route đích trùng route hiện tại): state của trang được tạo lại từ đầu.
+    // Xong khi đúng route, không còn modal, notification hay storage; ngược lại trả về bước chưa đạt
+    private static final String SOFT_RESET_SCRIPT =
+            "var target = new URL(arguments[0]), timeout = arguments[1];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var start = performance.now();" +
+            "if (location.origin !== target.origin || document.readyState !== 'complete') {" +
+            "  done({ ok: false, stage: 'app not loaded (' + location.href + ')' }); return;" +
+            "}" +
+            "var close = document.getElementById('modal-close-btn');" +
+            "if (close) { close.click(); }" +
+            "document.querySelectorAll('.alert-notification').forEach(function (n) { n.remove(); });" +
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }" +
+            "function go(path) {" +
+            "  history.pushState(null, '', path);" +
+            "  window.dispatchEvent(new PopStateEvent('popstate', { state: null }));" +
+            "}" +
+            "go('/__reset__');" +
+            "go(target.pathname + target.search);" +
+            "function baseline() {" +
+            "  if (location.pathname !== target.pathname) { return 'route ' + target.pathname; }" +
+            "  var overlay = document.getElementById('student-modal-overlay');" +
+            "  if (overlay && overlay.getClientRects().length > 0) { return 'modal closed'; }" +
+            "  if (document.querySelector('.alert-notification')) { return 'notifications cleared'; }" +
+            "  try { if (window.localStorage.length || window.sessionStorage.length) { return 'storage cleared'; } } catch (e) { }" +
+            "  return null;" +
+            "}" +
+            "(function poll() {" +
+            "  var missing = baseline();" +
+            "  if (!missing) { done({ ok: true, elapsed: performance.now() - start }); return; }" +
+            "  if (performance.now() - start > timeout) { done({ ok: false, stage: missing }); return; }" +
+            "  setTimeout(poll, 10);" +
+            "})();";
+
+    private static final String READY_SCRIPT =
+            "var selector = arguments[0], click = arguments[1], timeout = arguments[2], search = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var start = performance.now(), clicked = false, searched = !search;" +
+            "function visible(el) { return !!el && el.getClientRects().length > 0; }" +
+            "function settled() {" +
+            "  var running = document.getAnimations ? document.getAnimations().some(function (a) { return a.playState === 'running'; }) : false;" +
+            "  return !running && !document.querySelector(\"[class*='-enter-active'], [class*='-appear-active']\");" +
+            "}" +
+            "(function poll() {" +
+            // Lọc bảng bằng ô tìm kiếm để dòng cần sửa nằm ở trang đầu tiên
+            "  var input = searched ? null : document.getElementById('student-search-input');" +
+            "  if (visible(input)) {" +
+            "    Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set.call(input, search);" +
+            "    input.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "    searched = true;" +
+            "  }" +
+            "  var target = searched ? document.querySelector(selector) : null;" +
+            "  if (!clicked && visible(target) && !target.disabled) {" +
+            "    if (!click) { done({ ok: true, elapsed: performance.now() - start }); return; }" +
+            "    target.scrollIntoView(false);" +
+            "    target.click();" +
+            "    clicked = true;" +
+            "  } else if (clicked && visible(document.getElementById('student-modal-overlay')) && settled()) {" +
+            "    done({ ok: true, elapsed: performance.now() - start });" +
+            "    return;" +
+            "  }" +
+            "  if (performance.now() - start > timeout) {" +
+            "    done({ ok: false, stage: clicked ? 'student-modal-overlay' : selector });" +
+            "    return;" +
+            "  }" +
+            "  setTimeout(poll, 20);" +
+            "})();";
+
+    private static final Timings TIMINGS = Timings.of("navigation");
+    private static final boolean SOFT_RESET = "soft".equalsIgnoreCase(Config.get("reset.mode", "reload"));
+
+    private final String baseUrl;
+
+    public AppNavigator() {
+        this(Config.appUrl());
+    }
+
+    public AppNavigator(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    public HomePage openHomePage() {
+        open("", ".ant-card-body h3", false);
+        return new HomePage();
+    }
+
+    public StudentsManagementPage openStudentsPage() {
+        open("students", "#add-student-btn", false);
+        return new StudentsManagementPage();
+    }
+
+    public FormStudentModal openAddStudentModal() {
+        open("students", "#add-student-btn", true);
+        return new FormStudentModal();
+    }
+
+    // Nút Edit chỉ có khi danh sách sinh viên đã tải xong, script chờ luôn việc đó
+    public FormStudentModal openEditStudentModal(long studentId) {
+        return openEditStudentModal(studentId, null);
+    }
+
+    // Sinh viên không nằm ở trang đầu (vd. vừa seed qua API): gõ search trước rồi mới chờ nút Edit
+    public FormStudentModal openEditStudentModal(long studentId, String search) {
+        open("students", "#edit-student-btn-" + studentId, true, search);
+        return new FormStudentModal();
+    }
+
+    private void open(String route, String readySelector, boolean clickToOpenModal) {
+        open(route, readySelector, clickToOpenModal, null);
+    }
+
+    private void open(String route, String readySelector, boolean clickToOpenModal, String search) {
+        long start = System.nanoTime();
+        String label = "/" + route + (clickToOpenModal ? " + modal" : "");
+        // Soft reset đổi route không qua driver.get: page object đang giữ element của route cũ phải bỏ cache
+        BasePage.navigated();
+        if (SOFT_RESET) {
+            String failed = softOpen(route, readySelector, clickToOpenModal, search);
+            if (failed == null) {
+                TIMINGS.record(label + " (soft)", System.nanoTime() - start);
+                return;
+            }
+            TIMINGS.record("soft reset fallback: " + failed, System.nanoTime() - start);
+            start = System.nanoTime();
+        }
+        // Document hiện tại sắp bị bỏ: lấy kết quả đo trong trang trước
+        LatencyProbes.collect(driver);
+        driver.get(baseUrl + route);
+        String stage = awaitReady(readySelector, clickToOpenModal, search);
+        if (stage != null) {
+            throw new TimeoutException("/" + route + " was not ready within " + readyTimeout() + " ms, still waiting for " + stage);
+        }
+        TIMINGS.record(label, System.nanoTime() - start);
+    }
+
+    // null nếu đã đưa app về route đích và trang sẵn sàng mà không tải lại; ngược lại là bước chưa đạt
+    private String softOpen(String route, String readySelector, boolean clickToOpenModal, String search) {
+        try {
+            long timeout = Config.getLong("reset.softTimeoutMs", 2000);
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(SOFT_RESET_SCRIPT, baseUrl + route, timeout);
+            if (!(result instanceof Map<?, ?> outcome) || !Boolean.TRUE.equals(outcome.get("ok"))) {
+                return result instanceof Map<?, ?> outcome ? String.valueOf(outcome.get("stage")) : "baseline";
+            }
+            return awaitReady(readySelector, clickToOpenModal, search);
+        } catch (WebDriverException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private String awaitReady(String readySelector, boolean clickToOpenModal, String search) {
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(READY_SCRIPT, readySelector, clickToOpenModal, readyTimeout(), search);
+        if (result instanceof Map<?, ?> outcome && Boolean.TRUE.equals(outcome.get("ok"))) {
+            return null;
+        }
+        return String.valueOf(result instanceof Map<?, ?> outcome ? outcome.get("stage") : readySelector);
+    }
+
+    private static long readyTimeout() {
+        return Waits.Condition.MODAL_VISIBLE.timeout().toMillis();
+    }
+}
@@ -0,0 +1,84 @@
+package pages.students;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Trạng thái toàn bộ form modal tại một thời điểm, đọc bằng một lần executeScript
+public record FormSnapshot(boolean modalVisible, String title,
+                           String firstName, String lastName, String age,
+                           String email, String phone, String course, String enrollmentDate,
+                           String gender, boolean active,
+                           Map<String, String> errors,
+                           String alertTitle, String alertMessage) {
+
+    public FormSnapshot {
+        errors = Map.copyOf(errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    static FormSnapshot from(Map<String, Object> raw) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        Object rawErrors = raw.get("errors");
+        if (rawErrors instanceof Map<?, ?> map) {
+            ((Map<String, Object>) map).forEach((field, message) -> errors.put(field, String.valueOf(message)));
+        }
+        return new FormSnapshot(
+                Boolean.TRUE.equals(raw.get("modalVisible")),
+                text(raw.get("title")),
+                text(raw.get("firstName")),
+                text(raw.get("lastName")),
+                text(raw.get("age")),
+                text(raw.get("email")),
+                text(raw.get("phone")),
+                text(raw.get("course")),
+                text(raw.get("enrollmentDate")),
+                text(raw.get("gender")),
+                Boolean.TRUE.equals(raw.get("active")),
+                errors,
+                text(raw.get("alertTitle")),
+                text(raw.get("alertMessage")));
+    }
+
+    public boolean isMaleGenderSelected() {
+        return "Male".equalsIgnoreCase(gender);
+    }
+
+    public boolean isFemaleGenderSelected() {
+        return "Female".equalsIgnoreCase(gender);
+    }
+
+    public boolean isOtherGenderSelected() {
+        return "Other".equalsIgnoreCase(gender);
+    }
+
+    public boolean isAnyGenderSelected() {
+        return !gender.isEmpty();
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    // fieldName giống getValidationErrorMessage: "first-name", "age", "gender", "course", "enrollment-date"...
+    public String errorFor(String fieldName) {
+        return errors.getOrDefault(fieldName, "");
+    }
+
+    public boolean isValidationErrorVisible(String fieldName) {
+        return errors.containsKey(fieldName);
+    }
+
+    // Form Add vừa mở: modal hiển thị, mọi field rỗng, status Active, không có lỗi validation.
+    // ignoreGender: bỏ qua radio gender và lỗi của nó
+    public boolean isPristine(boolean ignoreGender) {
+        boolean fieldsEmpty = firstName.isEmpty() && lastName.isEmpty() && age.isEmpty() && email.isEmpty()
+                && phone.isEmpty() && course.isEmpty() && enrollmentDate.isEmpty();
+        boolean genderClear = ignoreGender || (gender.isEmpty() && !errors.containsKey("gender"));
+        long otherErrors = errors.keySet().stream().filter(field -> !field.equals("gender")).count();
+        return modalVisible && fieldsEmpty && active && genderClear && otherErrors == 0;
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+}
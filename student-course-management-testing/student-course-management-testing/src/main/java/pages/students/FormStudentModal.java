@@ -1,148 +1,299 @@
 package pages.students;
 
+import base.NetworkTracker;
+import models.Student;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.Select;
+import pages.PageLocators.Notification;
+import pages.PageLocators.StudentModal;
+import utils.Config;
 
-import static utils.JavacriptUtil.scrollToElement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 public class FormStudentModal extends StudentsManagementPage {
-    private By modalOverlay = By.id("student-modal-overlay");
-    private By modalTitle = By.id("modal-title");
-    private By modalCloseBtn = By.id("modal-close-btn");
-    private By modalCancelBtn = By.id("modal-cancel-btn");
-    private By modalOkBtn = By.id("modal-ok-btn");
-
-    private By firstNameInput = By.id("modal-first-name");
-    private By lastNameInput = By.id("modal-last-name");
-    private By ageInput = By.id("modal-age");
-    private By emailInput = By.id("modal-email");
-    private By phoneInput = By.id("modal-phone");
-    private By courseSelect = By.id("modal-course");
-    private By enrollmentDateInput = By.id("modal-enrollment-date");
-    private By statusCheckbox = By.id("modal-status");
-
-    private By maleGender = By.id("modal-gender-male");
-    private By femaleGender = By.id("modal-gender-female");
-    private By otherGender = By.id("modal-gender-other");
+    private static final String SUCCESS_MESSAGE = "Add student successful";
+    private static final String STUDENT_SAVE_URL = "/students(/[^/?#]+)?([?#].*)?$";
+
+    // Đọc toàn bộ form: value, lựa chọn, lỗi validation đang hiển thị và notification
+    private static final String SNAPSHOT_FUNCTION =
+            "function () {" +
+            "  function byId(id) { return document.getElementById(id); }" +
+            "  function value(id) { var el = byId(id); return el ? el.value : null; }" +
+            "  function visible(el) { return !!el && el.getClientRects().length > 0; }" +
+            "  function errorAfter(el) {" +
+            "    for (var p = el ? el.nextElementSibling : null; p; p = p.nextElementSibling) {" +
+            "      if (p.tagName === 'P' && p.classList.contains('text-red-500')) { return visible(p) ? p.textContent.trim() : null; }" +
+            "    }" +
+            "    return null;" +
+            "  }" +
+            "  var errors = {};" +
+            "  ['first-name', 'last-name', 'age', 'email', 'phone', 'course', 'enrollment-date'].forEach(function (field) {" +
+            "    var message = errorAfter(byId('modal-' + field));" +
+            "    if (message) { errors[field] = message; }" +
+            "  });" +
+            "  var male = byId('modal-gender-male');" +
+            "  var genderError = errorAfter(male ? male.closest('.gap-4') : null);" +
+            "  if (genderError) { errors['gender'] = genderError; }" +
+            "  var course = byId('modal-course');" +
+            "  var selected = course && course.selectedIndex >= 0 ? course.options[course.selectedIndex] : null;" +
+            "  var checked = document.querySelector(\"input[name='gender']:checked\");" +
+            "  var status = byId('modal-status');" +
+            "  var title = byId('modal-title');" +
+            "  var alert = document.querySelector('.alert-notification');" +
+            "  return {" +
+            "    modalVisible: visible(byId('student-modal-overlay')), title: title ? title.textContent.trim() : null," +
+            "    firstName: value('modal-first-name'), lastName: value('modal-last-name'), age: value('modal-age')," +
+            "    email: value('modal-email'), phone: value('modal-phone'), enrollmentDate: value('modal-enrollment-date')," +
+            "    course: selected && selected.value !== '' ? selected.text.trim() : null," +
+            "    gender: checked ? checked.value : null, active: status ? status.checked : false," +
+            "    errors: errors," +
+            "    alertTitle: alert ? alert.querySelector('.alert-title').textContent.trim() : null," +
+            "    alertMessage: alert ? alert.querySelector('.alert-message').textContent.trim() : null" +
+            "  };" +
+            "}";
+
+    private static final String SNAPSHOT_SCRIPT = "return (" + SNAPSHOT_FUNCTION + ")();";
+
+    private static final String BATCH_FILL_SCRIPT =
+            "var data = arguments[0];" +
+            "function setValue(id, value) {" +
+            "  var el = document.getElementById(id);" +
+            "  if (!el || value === null || value === undefined) { return; }" +
+            "  var proto = el.tagName === 'SELECT' ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            // Dùng setter gốc để React nhận ra value thay đổi (bỏ qua value tracker của React)
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "}" +
+            "setValue('modal-first-name', data.firstName);" +
+            "setValue('modal-last-name', data.lastName);" +
+            "setValue('modal-age', data.age);" +
+            "setValue('modal-email', data.email);" +
+            "setValue('modal-phone', data.phone);" +
+            "setValue('modal-enrollment-date', data.enrollmentDate);" +
+            "var course = document.getElementById('modal-course');" +
+            "if (course && data.course) {" +
+            "  var option = Array.prototype.find.call(course.options, function (o) { return o.text.trim() === data.course; });" +
+            "  if (option) { setValue('modal-course', option.value); }" +
+            "}" +
+            "if (data.gender) {" +
+            "  var radio = document.getElementById('modal-gender-' + data.gender);" +
+            "  if (radio && !radio.checked) { radio.click(); }" +
+            "}" +
+            "var status = document.getElementById('modal-status');" +
+            "if (status && status.checked !== data.active) { status.click(); }" +
+            "return (" + SNAPSHOT_FUNCTION + ")();";
+
+    // Đưa form về như lúc vừa mở mà không đóng modal: xóa value từng field qua setter gốc + event để React cập nhật
+    // state. Field đã rỗng nhưng còn lỗi thì đặt tạm một giá trị rồi xóa, vì handleInputChange chỉ ẩn lỗi khi
+    // value thay đổi. Radio gender không bỏ chọn được qua UI nên giữ nguyên, bên gọi tự quyết định có dùng được không
+    private static final String RESET_SCRIPT =
+            "function errorAfter(el) {" +
+            "  var p = el ? el.nextElementSibling : null;" +
+            "  return !!p && p.tagName === 'P' && p.classList.contains('text-red-500') && p.getClientRects().length > 0;" +
+            "}" +
+            "function setValue(el, value) {" +
+            "  var proto = el.tagName === 'SELECT' ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "}" +
+            "function probe(el) {" +
+            "  if (el.tagName === 'SELECT') {" +
+            "    var option = Array.prototype.find.call(el.options, function (o) { return o.value !== ''; });" +
+            "    return option ? option.value : '';" +
+            "  }" +
+            "  return el.type === 'number' ? '1' : el.type === 'date' ? '2000-01-01' : 'x';" +
+            "}" +
+            "['first-name', 'last-name', 'age', 'email', 'phone', 'course', 'enrollment-date'].forEach(function (field) {" +
+            "  var el = document.getElementById('modal-' + field);" +
+            "  if (!el) { return; }" +
+            "  if (el.value === '' && errorAfter(el)) { setValue(el, probe(el)); }" +
+            "  if (el.value !== '') { setValue(el, ''); }" +
+            "});" +
+            "var status = document.getElementById('modal-status');" +
+            "if (status && !status.checked) { status.click(); }" +
+            "return (" + SNAPSHOT_FUNCTION + ")();";
+
+    private By modalOverlay = StudentModal.OVERLAY;
+    private By modalTitle = StudentModal.TITLE;
+    private By modalCloseBtn = StudentModal.CLOSE_BUTTON;
+    private By modalCancelBtn = StudentModal.CANCEL_BUTTON;
+    private By modalOkBtn = StudentModal.OK_BUTTON;
+
+    private By firstNameInput = StudentModal.FIRST_NAME;
+    private By lastNameInput = StudentModal.LAST_NAME;
+    private By ageInput = StudentModal.AGE;
+    private By emailInput = StudentModal.EMAIL;
+    private By phoneInput = StudentModal.PHONE;
+    private By courseSelect = StudentModal.COURSE;
+    private By enrollmentDateInput = StudentModal.ENROLLMENT_DATE;
+    private By statusCheckbox = StudentModal.STATUS;
+
+    private By maleGender = StudentModal.MALE;
+    private By femaleGender = StudentModal.FEMALE;
+    private By otherGender = StudentModal.OTHER;
+
+    private long submitMark = -1;
+
+    public FormStudentModal() {
+        // Modal đã hiển thị khi page object được tạo: lần dùng đầu tiên lấy tất cả element của form trong một round trip
+        super(StudentModal.OVERLAY, StudentModal.TITLE, StudentModal.CLOSE_BUTTON, StudentModal.CANCEL_BUTTON, StudentModal.OK_BUTTON,
+                StudentModal.FIRST_NAME, StudentModal.LAST_NAME, StudentModal.AGE, StudentModal.EMAIL, StudentModal.PHONE,
+                StudentModal.COURSE, StudentModal.ENROLLMENT_DATE, StudentModal.STATUS,
+                StudentModal.MALE, StudentModal.FEMALE, StudentModal.OTHER);
+    }
 
     public boolean isModalVisible() {
         try {
-            return findElement(modalOverlay).isDisplayed();
+            return isDisplayed(modalOverlay);
         } catch (Exception e) {
             return false;
         }
     }
 
     public String getModalTitle() {
-        return findElement(modalTitle).getText();
+        return getVisibleText(modalTitle);
     }
 
     public void closeModal() {
-        scrollToElement(modalCloseBtn);
+        scrollTo(modalCloseBtn);
         click(modalCloseBtn);
+        waits.forModalHidden();
+        invalidateElements();
     }
 
     public void cancelModal() {
-        scrollToElement(modalCancelBtn);
+        scrollTo(modalCancelBtn);
         click(modalCancelBtn);
+        waits.forModalHidden();
+        invalidateElements();
+    }
+
+    // Dùng lại modal đang mở cho case validation tiếp theo: xóa form tại chỗ, không được thì Cancel rồi mở lại
+    // bằng nút Add trên trang hiện tại. Rỗng nếu modal đã mất hoặc cả hai cách đều không đưa form về trạng thái
+    // ban đầu, khi đó bên gọi phải tải lại trang. keepGender: case tiếp theo tự chọn gender nên radio đang chọn
+    // (và lỗi gender) không ảnh hưởng
+    public Optional<FormStudentModal> resetForReuse(boolean keepGender) {
+        if (!isModalVisible()) {
+            return Optional.empty();
+        }
+        if (readResetState().isPristine(keepGender)) {
+            return Optional.of(this);
+        }
+        cancelModal();
+        FormStudentModal reopened = navigateToAddStudentPage();
+        return reopened.snapshot().isPristine(keepGender) ? Optional.of(reopened) : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private FormSnapshot readResetState() {
+        return FormSnapshot.from((Map<String, Object>) ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT));
     }
 
     public void enterFirstName(String firstName) {
-        scrollToElement(firstNameInput);
-        clearAndType(firstNameInput, firstName);
+        scrollTo(firstNameInput);
+        setText(firstNameInput, firstName);
     }
 
     public void enterLastName(String lastName) {
-        scrollToElement(lastNameInput);
-        clearAndType(lastNameInput, lastName);
+        scrollTo(lastNameInput);
+        setText(lastNameInput, lastName);
     }
 
     public void enterAge(String age) {
-        scrollToElement(ageInput);
-        clearAndType(ageInput, age);
+        scrollTo(ageInput);
+        setText(ageInput, age);
     }
 
     public void enterEmail(String email) {
-        scrollToElement(emailInput);
-        clearAndType(emailInput, email);
+        scrollTo(emailInput);
+        setText(emailInput, email);
     }
 
     public void enterPhone(String phone) {
-        scrollToElement(phoneInput);
-        clearAndType(phoneInput, phone);
+        scrollTo(phoneInput);
+        setText(phoneInput, phone);
     }
 
     public void enterEnrollmentDate(String date) {
-        scrollToElement(enrollmentDateInput);
-        clearAndType(enrollmentDateInput, date);
+        scrollTo(enrollmentDateInput);
+        setText(enrollmentDateInput, date);
     }
 
     public void selectMaleGender() {
-        scrollToElement(maleGender);
+        scrollTo(maleGender);
         click(maleGender);
     }
 
     public void selectFemaleGender() {
-        scrollToElement(femaleGender);
+        scrollTo(femaleGender);
         click(femaleGender);
     }
 
     public void selectOtherGender() {
-        scrollToElement(otherGender);
+        scrollTo(otherGender);
         click(otherGender);
     }
 
     public boolean isMaleGenderSelected() {
-        return findElement(maleGender).isSelected();
+        return isSelected(maleGender);
     }
 
     public boolean isFemaleGenderSelected() {
-        return findElement(femaleGender).isSelected();
+        return isSelected(femaleGender);
     }
 
     public boolean isOtherGenderSelected() {
-        return findElement(otherGender).isSelected();
+        return isSelected(otherGender);
     }
 
     // Course selection method
     public void selectCourseByText(String courseText) {
-        scrollToElement(courseSelect);
-        WebElement selectElement = findElement(courseSelect);
-        Select select = new Select(selectElement);
-        select.selectByVisibleText(courseText);
+        scrollTo(courseSelect);
+        withElement(courseSelect, element -> {
+            new Select(element).selectByVisibleText(courseText);
+            return null;
+        });
     }
 
     public void selectCourseByValue(String courseValue) {
-        scrollToElement(courseSelect);
-        WebElement selectElement = findElement(courseSelect);
-        Select select = new Select(selectElement);
-        select.selectByValue(courseValue);
+        scrollTo(courseSelect);
+        withElement(courseSelect, element -> {
+            new Select(element).selectByValue(courseValue);
+            return null;
+        });
     }
 
     public void selectCourseByIndex(int index) {
-        scrollToElement(courseSelect);
-        WebElement selectElement = findElement(courseSelect);
-        Select select = new Select(selectElement);
-        select.selectByIndex(index);
+        scrollTo(courseSelect);
+        withElement(courseSelect, element -> {
+            new Select(element).selectByIndex(index);
+            return null;
+        });
     }
 
     // Status checkbox methods
     public void setStatusActive(boolean isActive) {
-        scrollToElement(statusCheckbox);
-        WebElement checkbox = findElement(statusCheckbox);
-        if (checkbox.isSelected() != isActive) {
+        scrollTo(statusCheckbox);
+        if (isSelected(statusCheckbox) != isActive) {
             click(statusCheckbox);
         }
     }
 
     public boolean isStatusActive() {
-        return findElement(statusCheckbox).isSelected();
+        return isSelected(statusCheckbox);
     }
 
     // Form submission methods
     public void clickSubmit() {
-        scrollToElement(modalOkBtn);
+        scrollTo(modalOkBtn);
+        // Mốc để awaitStudentSaved() chỉ xét request gửi đi sau lần bấm này
+        submitMark = NetworkTracker.of(driver).map(NetworkTracker::mark).orElse(-1L);
         click(modalOkBtn);
     }
 
@@ -157,7 +308,7 @@ public class FormStudentModal extends StudentsManagementPage {
     public boolean isValidationErrorVisible(String fieldName) {
         try {
             By errorLocator = buildErrorLocator(fieldName);
-            return findElement(errorLocator).isDisplayed();
+            return isDisplayed(errorLocator);
         } catch (Exception e) {
             return false;
         }
@@ -166,77 +317,151 @@ public class FormStudentModal extends StudentsManagementPage {
     public String getValidationErrorMessage(String fieldName) {
         try {
             By errorLocator = buildErrorLocator(fieldName);
-            return findElement(errorLocator).getText();
+            return getVisibleText(errorLocator);
         } catch (Exception e) {
             return "";
         }
     }
 
     private By buildErrorLocator(String fieldName) {
-        switch (fieldName) {
-            case "course":
-                // Nếu có <select id="modal-course"> (trường hợp native)
-                return By.xpath("//select[@id='modal-course']/following-sibling::p[contains(@class,'text-red-500')]");
-            case "gender":
-                // Radio group: p lỗi là sibling của group <div class='flex gap-4'>
-                // Bám theo nhãn 'Gender' rồi tìm group và p ngay sau nó
-                return By.xpath(
-                        "//label[normalize-space()='Gender']/following::*[contains(@class,'gap-4')][1]" +
-                                "/following-sibling::p[contains(@class,'text-red-500')][1]"
-                );
-            default:
-                // Các input thường có id="modal-<fieldName>"
-                return By.xpath("//input[@id='modal-" + fieldName + "']/following-sibling::p[contains(@class,'text-red-500')]");
-        }
-    }
-
-    // Helper method to clear and type
-    private void clearAndType(By locator, String text) {
-        WebElement element = findElement(locator);
-        element.clear();
-        element.sendKeys(text);
+        return StudentModal.error(fieldName);
     }
 
     public void fillValidStudentForm(String firstName, String lastName, String age,
                                      String gender, String email, String phone,
                                      String course, String enrollmentDate) {
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterAge(age);
-        enterEmail(email);
-        enterPhone(phone);
-        enterEnrollmentDate(enrollmentDate);
-
-        switch (gender.toLowerCase()) {
-            case "male":
-                selectMaleGender();
-                break;
-            case "female":
-                selectFemaleGender();
-                break;
-            case "other":
-                selectOtherGender();
-                break;
+        fillStudentForm(Student.of(firstName, lastName, age, gender, email, phone, course, enrollmentDate));
+    }
+
+    // -Dform.fillMode=typed để nhập từng field như người dùng (scroll, clear, sendKeys)
+    public void fillStudentForm(Student student) {
+        if ("typed".equalsIgnoreCase(Config.get("form.fillMode", "batch"))) {
+            typeStudentForm(student);
+            setStatusActive(student.active());
+        } else {
+            batchFillStudentForm(student);
+        }
+    }
+
+    // Điền cả form trong một lần executeScript, phát event input/change để React cập nhật state,
+    // sau đó đọc lại kết quả một lần; field nào chưa khớp thì nhập lại bằng cách gõ phím
+    @SuppressWarnings("unchecked")
+    public void batchFillStudentForm(Student student) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("firstName", student.firstName());
+        data.put("lastName", student.lastName());
+        data.put("age", student.age());
+        data.put("email", student.email());
+        data.put("phone", student.phone());
+        data.put("enrollmentDate", student.enrollmentDate());
+        data.put("course", student.course());
+        data.put("gender", student.gender() == null ? null : student.gender().toLowerCase());
+        data.put("active", student.active());
+
+        FormSnapshot actual = FormSnapshot.from(
+                (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(BATCH_FILL_SCRIPT, data));
+
+        Student retype = new Student(
+                mismatch(student.firstName(), actual.firstName()),
+                mismatch(student.lastName(), actual.lastName()),
+                mismatch(student.age(), actual.age()),
+                mismatch(student.gender(), actual.gender()),
+                mismatch(student.email(), actual.email()),
+                mismatch(student.phone(), actual.phone()),
+                mismatch(student.course(), actual.course()),
+                mismatch(student.enrollmentDate(), actual.enrollmentDate()),
+                student.active());
+        typeStudentForm(retype);
+        if (student.active() != actual.active()) {
+            setStatusActive(student.active());
+        }
+    }
+
+    private void typeStudentForm(Student student) {
+        if (student.firstName() != null) {
+            enterFirstName(student.firstName());
+        }
+        if (student.lastName() != null) {
+            enterLastName(student.lastName());
+        }
+        if (student.age() != null) {
+            enterAge(student.age());
+        }
+        if (student.email() != null) {
+            enterEmail(student.email());
+        }
+        if (student.phone() != null) {
+            enterPhone(student.phone());
+        }
+        if (student.enrollmentDate() != null) {
+            enterEnrollmentDate(student.enrollmentDate());
+        }
+
+        if (student.gender() != null) {
+            switch (student.gender().toLowerCase()) {
+                case "male":
+                    selectMaleGender();
+                    break;
+                case "female":
+                    selectFemaleGender();
+                    break;
+                case "other":
+                    selectOtherGender();
+                    break;
+            }
         }
 
-        selectCourseByText(course);
+        if (student.course() != null) {
+            selectCourseByText(student.course());
+        }
 
-        setStatusActive(true);
     }
 
-    public void waitForSuccessMessage() {
-        try {
-            Thread.sleep(2000); // Wait for message to appear
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private static String mismatch(String expected, String actual) {
+        if (expected == null || expected.equalsIgnoreCase(actual)) {
+            return null;
         }
+        return expected;
+    }
+
+    // Một round trip cho toàn bộ phần kiểm tra: value các field, gender, status, lỗi validation, notification
+    public FormSnapshot snapshot() {
+        return FormSnapshot.from(readFormState(driver));
+    }
+
+    // Dạng thô của snapshot(), dùng được cả khi modal không mở (field không có thì là null), vd. lúc lưu artifact lỗi
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> readFormState(WebDriver driver) {
+        return (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+    }
+
+    // POST (thêm) hoặc PUT (sửa) /students của lần Submit gần nhất, chờ đúng tới khi backend trả lời.
+    // Rỗng nếu chưa Submit hoặc không theo dõi được network (khi đó chỉ còn chờ theo UI)
+    public Optional<NetworkTracker.Exchange> awaitStudentSaved() {
+        if (submitMark < 0) {
+            return Optional.empty();
+        }
+        return NetworkTracker.of(driver).map(tracker -> tracker.awaitRequest(submitMark, "POST|PUT|PATCH", STUDENT_SAVE_URL));
+    }
+
+    public void waitForSuccessMessage() {
+        // Backend trả lỗi hoặc request hỏng thì modal không bao giờ đóng: báo ngay nguyên nhân thay vì chờ forModalHidden tới timeout
+        awaitStudentSaved().ifPresent(exchange -> {
+            if (exchange.failed() || exchange.status() >= 400) {
+                throw new AssertionError("Saving the student failed: " + exchange.method() + " " + exchange.url() + " -> "
+                        + (exchange.failed() ? "network error" : "HTTP " + exchange.status()) + " after " + exchange.durationMillis() + " ms");
+            }
+        });
+        waits.forNotificationVisible();
+        // Modal đóng sau khi submit thành công
+        waits.forModalHidden();
+        invalidateElements();
     }
 
     public boolean isSuccessMessageVisible() {
         try {
             // Look for the new alert notification with success message
-            By successMessageLocator = By.xpath("//div[contains(@class, 'alert-notification')]//div[contains(@class, 'alert-message') and contains(text(), 'Add student successful')]");
-            return findElement(successMessageLocator).isDisplayed();
+            return isDisplayed(Notification.MESSAGE) && getVisibleText(Notification.MESSAGE).contains(SUCCESS_MESSAGE);
         } catch (Exception e) {
             return false;
         }
@@ -245,8 +470,8 @@ public class FormStudentModal extends StudentsManagementPage {
     public String getSuccessMessageText() {
         try {
             // Look for the alert message text in the new notification structure
-            By successMessageLocator = By.xpath("//div[contains(@class, 'alert-notification')]//div[contains(@class, 'alert-message') and contains(text(), 'Add student successful')]");
-            return findElement(successMessageLocator).getText();
+            String text = getVisibleText(Notification.MESSAGE);
+            return text.contains(SUCCESS_MESSAGE) ? text : "";
         } catch (Exception e) {
             return "";
         }
@@ -255,8 +480,7 @@ public class FormStudentModal extends StudentsManagementPage {
     public boolean isAlertNotificationVisible() {
         try {
             // Check if any alert notification is visible
-            By alertNotificationLocator = By.className("alert-notification");
-            return findElement(alertNotificationLocator).isDisplayed();
+            return isDisplayed(Notification.CONTAINER);
         } catch (Exception e) {
             return false;
         }
@@ -265,8 +489,7 @@ public class FormStudentModal extends StudentsManagementPage {
     public String getAlertNotificationTitle() {
         try {
             // Get the alert title (Success! or Error!)
-            By alertTitleLocator = By.xpath("//div[contains(@class, 'alert-notification')]//div[contains(@class, 'alert-title')]");
-            return findElement(alertTitleLocator).getText();
+            return getVisibleText(Notification.TITLE);
         } catch (Exception e) {
             return "";
         }
@@ -275,7 +498,7 @@ public class FormStudentModal extends StudentsManagementPage {
     // Getter methods to retrieve field values for verification
     public String getFirstNameValue() {
         try {
-            return findElement(firstNameInput).getAttribute("value");
+            return getText(firstNameInput);
         } catch (Exception e) {
             return "";
         }
@@ -283,7 +506,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getLastNameValue() {
         try {
-            return findElement(lastNameInput).getAttribute("value");
+            return getText(lastNameInput);
         } catch (Exception e) {
             return "";
         }
@@ -291,7 +514,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getAgeValue() {
         try {
-            return findElement(ageInput).getAttribute("value");
+            return getText(ageInput);
         } catch (Exception e) {
             return "";
         }
@@ -299,7 +522,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getEmailValue() {
         try {
-            return findElement(emailInput).getAttribute("value");
+            return getText(emailInput);
         } catch (Exception e) {
             return "";
         }
@@ -307,7 +530,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getPhoneValue() {
         try {
-            return findElement(phoneInput).getAttribute("value");
+            return getText(phoneInput);
         } catch (Exception e) {
             return "";
         }
@@ -315,9 +538,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getCourseValue() {
         try {
-            WebElement selectElement = findElement(courseSelect);
-            Select select = new Select(selectElement);
-            return select.getFirstSelectedOption().getText();
+            return withElement(courseSelect, element -> new Select(element).getFirstSelectedOption().getText());
         } catch (Exception e) {
             return "";
         }
@@ -325,7 +546,7 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public String getEnrollmentDateValue() {
         try {
-            return findElement(enrollmentDateInput).getAttribute("value");
+            return getText(enrollmentDateInput);
         } catch (Exception e) {
             return "";
         }
@@ -333,9 +554,9 @@ public class FormStudentModal extends StudentsManagementPage {
 
     public boolean isAnyGenderSelected() {
         try {
-            return findElement(maleGender).isSelected() || 
-                   findElement(femaleGender).isSelected() || 
-                   findElement(otherGender).isSelected();
+            return isSelected(maleGender) || 
+                   isSelected(femaleGender) || 
+                   isSelected(otherGender);
         } catch (Exception e) {
             return false;
         }
@@ -1,46 +1,70 @@
 package pages.students;
 
+import base.NetworkTracker;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import pages.PageLocators;
 import pages.homepage.HomePage;
 
-import java.time.Duration;
+public class StudentsManagementPage extends HomePage {
+    private By buttonAddStudent = PageLocators.Students.ADD_BUTTON;
+    private By buttonEditStudent = PageLocators.Students.EDIT_FIRST_BUTTON;
+    private By searchInput = PageLocators.Students.SEARCH_INPUT;
 
-import static utils.JavacriptUtil.scrollToElement;
+    public StudentsManagementPage() {
+    }
 
-public class StudentsManagementPage extends HomePage {
-    private By buttonAddStudent = By.id("add-student-btn");
-    private By buttonEditStudent = By.xpath("//button[@id='edit-student-btn-1']");
+    protected StudentsManagementPage(By... prefetchOnUse) {
+        super(prefetchOnUse);
+    }
 
+    public boolean isAddStudentButtonVisible() {
+        try {
+            return waits.forVisible(buttonAddStudent).isDisplayed();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // Chờ các request của trang (danh sách sinh viên, khóa học, tìm kiếm) xong hẳn; không có CDP thì bỏ qua
+    public void awaitNetworkIdle() {
+        NetworkTracker.of(driver).ifPresent(NetworkTracker::awaitNetworkIdle);
+    }
 
-    public FormStudentModal navigateToAddStudentPage() throws InterruptedException {
-        scrollToElement(buttonAddStudent);
-        Thread.sleep(3000);
+    public FormStudentModal navigateToAddStudentPage() {
+        remember(buttonAddStudent, waits.forClickable(buttonAddStudent));
+        scrollTo(buttonAddStudent);
         click(buttonAddStudent);
+        waits.forModalVisible();
         return new FormStudentModal();
     }
 
     public FormStudentModal navigateToEditStudentPage() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-        By buttonEditStudent = By.xpath("//button[@id='edit-student-btn-1']");
-
-        // 🔹 1. Chờ nút Edit xuất hiện và hiển thị
-        WebElement editButton = wait.until(ExpectedConditions.visibilityOfElementLocated(buttonEditStudent));
+        // 🔹 1. Chờ nút Edit hiển thị và có thể click (tránh bị overlay che)
+        WebElement editButton = waits.forClickable(buttonEditStudent);
 
         // 🔹 2. Cuộn xuống nếu cần
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(false);", editButton);
 
-        // 🔹 3. Chờ nút có thể click (tránh bị overlay che)
-        wait.until(ExpectedConditions.elementToBeClickable(editButton));
+        // 🔹 3. Click an toàn bằng JavaScript (ổn định hơn click() thông thường trong Ant Design)
+        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", editButton);
 
-        // 🔹 4. Click an toàn bằng JavaScript (ổn định hơn click() thông thường trong Ant Design)
+        // 🔹 4. Chờ modal mở xong rồi trả về modal Edit
+        waits.forModalVisible();
+        return new FormStudentModal();
+    }
+
+    // Tìm sinh viên bằng ô search như người dùng rồi mở Edit đúng sinh viên đó, kể cả khi không nằm ở trang đầu
+    public FormStudentModal navigateToEditStudentPage(long studentId, String search) {
+        scrollTo(searchInput);
+        setText(searchInput, search);
+
+        WebElement editButton = waits.forClickable(PageLocators.Students.editButton(studentId));
+        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(false);", editButton);
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", editButton);
 
-        // 🔹 5. Trả về modal AddStudent
+        waits.forModalVisible();
         return new FormStudentModal();
     }
 
@@ -0,0 +1,229 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bản thay thế json-server trong bộ nhớ: CRUD /<collection>[/<id>] với filter, q, _sort/_order, _page/_limit
+public final class JsonStore implements HttpHandler {
+    private static final Json JSON = new Json();
+    // Số so sánh theo giá trị, còn lại theo chuỗi, giống cách json-server sắp xếp; số đứng trước chuỗi
+    private static final Comparator<Object> SORT_ORDER = (left, right) -> {
+        if (left instanceof Number a && right instanceof Number b) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        if (left instanceof Number || right instanceof Number) {
+            return left instanceof Number ? -1 : 1;
+        }
+        return sortText(left).compareTo(sortText(right));
+    };
+
+    private final String prefix;
+    private final String seedResource;
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+
+    public JsonStore(String prefix, String seedResource) {
+        this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        this.seedResource = seedResource;
+        reset();
+    }
+
+    // Nạp lại dữ liệu mẫu từ classpath, bỏ mọi thay đổi của các lần chạy trước
+    @SuppressWarnings("unchecked")
+    public void reset() {
+        tables.clear();
+        if (seedResource == null) {
+            return;
+        }
+        try (InputStream stream = JsonStore.class.getClassLoader().getResourceAsStream(seedResource)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Seed data not found on classpath: " + seedResource);
+            }
+            Map<String, Object> seed = JSON.toType(new InputStreamReader(stream, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            seed.forEach((name, rows) -> {
+                Table table = table(name);
+                for (Object row : (List<Object>) rows) {
+                    table.insert(new LinkedHashMap<>((Map<String, Object>) row));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Map<String, Object>> rows(String collection) {
+        return new ArrayList<>(table(collection).rows.values());
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            cors(exchange);
+            if ("OPTIONS".equals(exchange.getRequestMethod())) {
+                send(exchange, 204, null);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String[] parts = path.substring(Math.min(path.length(), prefix.length())).split("/");
+            if (parts.length == 0 || parts[0].isEmpty()) {
+                send(exchange, 200, new ArrayList<>(tables.keySet()));
+                return;
+            }
+            Table table = table(parts[0]);
+            Long id = parts.length > 1 ? Long.valueOf(parts[1]) : null;
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> {
+                    if (id == null) {
+                        list(exchange, table);
+                    } else {
+                        Map<String, Object> row = table.rows.get(id);
+                        send(exchange, row == null ? 404 : 200, row == null ? Map.of() : row);
+                    }
+                }
+                case "POST" -> send(exchange, 201, table.insert(body(exchange)));
+                case "PUT", "PATCH" -> {
+                    Map<String, Object> row = table.update(id, body(exchange), "PATCH".equals(exchange.getRequestMethod()));
+                    send(exchange, row == null ? 404 : 200, row == null ? Map.of() : row);
+                }
+                case "DELETE" -> send(exchange, table.rows.remove(id) == null ? 404 : 200, Map.of());
+                default -> send(exchange, 405, Map.of());
+            }
+        } catch (RuntimeException e) {
+            send(exchange, 400, Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void list(HttpExchange exchange, Table table) throws IOException {
+        Map<String, String> query = query(exchange.getRequestURI());
+        List<Map<String, Object>> rows = new ArrayList<>(table.rows.values());
+        query.forEach((key, value) -> {
+            if (key.equals("q")) {
+                String needle = value.toLowerCase(Locale.ROOT);
+                rows.removeIf(row -> row.values().stream().noneMatch(v -> String.valueOf(v).toLowerCase(Locale.ROOT).contains(needle)));
+            } else if (!key.startsWith("_")) {
+                rows.removeIf(row -> !value.equals(String.valueOf(row.get(key))));
+            }
+        });
+        String sort = query.get("_sort");
+        if (sort != null) {
+            Comparator<Map<String, Object>> comparator = Comparator.comparing(row -> row.get(sort), SORT_ORDER);
+            rows.sort("desc".equalsIgnoreCase(query.get("_order")) ? comparator.reversed() : comparator);
+        }
+        exchange.getResponseHeaders().add("X-Total-Count", String.valueOf(rows.size()));
+        if (query.containsKey("_page")) {
+            int limit = Integer.parseInt(query.getOrDefault("_limit", "10"));
+            int from = Math.min(rows.size(), (Integer.parseInt(query.get("_page")) - 1) * limit);
+            send(exchange, 200, rows.subList(from, Math.min(rows.size(), from + limit)));
+        } else {
+            send(exchange, 200, rows);
+        }
+    }
+
+    private Table table(String name) {
+        return tables.computeIfAbsent(name, key -> new Table());
+    }
+
+    private static String sortText(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Map<String, Object> body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return JSON.toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> query = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static void cors(HttpExchange exchange) {
+        exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, PATCH, DELETE, OPTIONS");
+        exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
+        exchange.getResponseHeaders().add("Access-Control-Expose-Headers", "X-Total-Count");
+    }
+
+    static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : JSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        if (body != null) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static class Table {
+        private final ConcurrentSkipListMap<Long, Map<String, Object>> rows = new ConcurrentSkipListMap<>();
+        private final AtomicLong nextId = new AtomicLong(1);
+
+        Map<String, Object> insert(Map<String, Object> row) {
+            long id;
+            if (row.get("id") instanceof Number number) {
+                id = number.longValue();
+                nextId.accumulateAndGet(id + 1, Math::max);
+            } else {
+                id = nextId.getAndIncrement();
+            }
+            Map<String, Object> stored = new LinkedHashMap<>();
+            stored.put("id", id);
+            row.forEach((key, value) -> {
+                if (!key.equals("id")) {
+                    stored.put(key, value);
+                }
+            });
+            rows.put(id, stored);
+            return stored;
+        }
+
+        Map<String, Object> update(Long id, Map<String, Object> changes, boolean merge) {
+            if (id == null) {
+                return null;
+            }
+            return rows.computeIfPresent(id, (key, current) -> {
+                Map<String, Object> updated = new LinkedHashMap<>();
+                updated.put("id", id);
+                if (merge) {
+                    current.forEach(updated::putIfAbsent);
+                }
+                changes.forEach((field, value) -> {
+                    if (!field.equals("id")) {
+                        updated.put(field, value);
+                    }
+                });
+                return updated;
+            });
+        }
+    }
+}
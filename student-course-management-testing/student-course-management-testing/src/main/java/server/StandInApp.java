@@ -0,0 +1,138 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Bản giả cả frontend lẫn backend trong JVM: trang chủ, trang Students và modal sinh viên (resources/standin/app)
+// với đúng id mà page object dùng, API giống json-server ở /api. Chạy được trên Linux không cần node.
+public class StandInApp implements AutoCloseable {
+    public static final String API_PREFIX = "/api/";
+    private static final String ASSETS = "standin/app/";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "text/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final JsonStore store;
+    private final Map<String, byte[]> assets;
+
+    // Độ trễ giả lập (ms), có thể đổi khi đang chạy để đo framework dưới các mức trễ khác nhau
+    private volatile long apiLatencyMs;
+    private volatile long pageLatencyMs;
+    private volatile long jitterMs;
+
+    private StandInApp(HttpServer server, ExecutorService executor, JsonStore store, Map<String, byte[]> assets) {
+        this.server = server;
+        this.executor = executor;
+        this.store = store;
+        this.assets = assets;
+    }
+
+    // -Dstandin.latency.apiMs / pageMs / jitterMs cấu hình độ trễ ban đầu; port 0 = chọn cổng trống bất kỳ
+    public static StandInApp start(int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            StandInApp app = new StandInApp(server, executor, new JsonStore(API_PREFIX, StandInBackend.SEED),
+                    Map.of("index.html", asset("index.html"), "app.js", asset("app.js"), "app.css", asset("app.css")));
+            app.setLatency(Config.getLong("standin.latency.apiMs", 0),
+                    Config.getLong("standin.latency.pageMs", 0),
+                    Config.getLong("standin.latency.jitterMs", 0));
+            server.createContext(API_PREFIX, app.delayed(app.store, true));
+            server.createContext("/", app.delayed(app::serveAsset, false));
+            server.setExecutor(executor);
+            server.start();
+            return app;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void setLatency(long apiMs, long pageMs, long jitterMs) {
+        this.apiLatencyMs = Math.max(0, apiMs);
+        this.pageLatencyMs = Math.max(0, pageMs);
+        this.jitterMs = Math.max(0, jitterMs);
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    public String apiUrl() {
+        return url() + API_PREFIX.substring(1);
+    }
+
+    public JsonStore store() {
+        return store;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private HttpHandler delayed(HttpHandler handler, boolean api) {
+        return exchange -> {
+            long delay = (api ? apiLatencyMs : pageLatencyMs) + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+            if (delay > 0) {
+                try {
+                    // Mỗi request một virtual thread nên sleep không chiếm thread của server
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handler.handle(exchange);
+        };
+    }
+
+    // Các route của SPA (/, /students, /courses, ...) đều trả về index.html, router phía client lo phần còn lại
+    private void serveAsset(HttpExchange exchange) throws IOException {
+        String name = exchange.getRequestURI().getPath().substring(1);
+        byte[] body = assets.get(name);
+        if (body == null) {
+            if (name.contains(".")) {
+                JsonStore.send(exchange, 404, Map.of());
+                return;
+            }
+            name = "index.html";
+            body = assets.get(name);
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.get(name.substring(name.lastIndexOf('.') + 1)));
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] asset(String name) throws IOException {
+        try (InputStream stream = StandInApp.class.getClassLoader().getResourceAsStream(ASSETS + name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Stand-in asset not found on classpath: " + ASSETS + name);
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        StandInApp app = start(port);
+        System.out.println("Stand-in app listening on " + app.url() + " (API " + app.apiUrl() + ")");
+    }
+}
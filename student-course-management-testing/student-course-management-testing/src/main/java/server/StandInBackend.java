@@ -0,0 +1,59 @@
+package server;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Backend giả chạy trong JVM cho CI, cùng API với json-server (frontend/db.json) nhưng dữ liệu nằm trong bộ nhớ
+public class StandInBackend implements AutoCloseable {
+    public static final String SEED = "standin/db.json";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final JsonStore store;
+
+    private StandInBackend(HttpServer server, ExecutorService executor, JsonStore store) {
+        this.server = server;
+        this.executor = executor;
+        this.store = store;
+    }
+
+    // port 0 = chọn cổng trống bất kỳ
+    public static StandInBackend start(int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            JsonStore store = new JsonStore("/", SEED);
+            server.createContext("/", store);
+            server.setExecutor(executor);
+            server.start();
+            return new StandInBackend(server, executor, store);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    public JsonStore store() {
+        return store;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        StandInBackend backend = start(port);
+        System.out.println("Stand-in backend listening on " + backend.url());
+    }
+}
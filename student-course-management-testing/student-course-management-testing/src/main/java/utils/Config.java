@@ -0,0 +1,48 @@
+package utils;
+
+// Cấu hình chạy test, đọc từ system property (-Dkey=value) với giá trị mặc định
+public class Config {
+
+    private Config() {
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        return Long.parseLong(get(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(get(key, String.valueOf(defaultValue)));
+    }
+
+    public static String appUrl() {
+        return get("app.url", "http://localhost:3000/");
+    }
+
+    // Backend REST mà app gọi tới (json-server trong frontend chạy ở cổng 8080)
+    public static String apiUrl() {
+        return get("api.url", "http://localhost:8080/");
+    }
+
+    // Mỗi thread của parallel=methods có thể đang chạy một data provider song song với pool thread riêng
+    // (dataproviderthreadcount), nên số lease cùng lúc tối đa là ui.threads * ui.dataProviderThreads
+    public static int poolSize() {
+        return getInt("pool.size", getInt("ui.threads", 4) * Math.max(1, getInt("ui.dataProviderThreads", 2)));
+    }
+
+    public static int poolWarmup() {
+        return getInt("pool.warmup", 0);
+    }
+
+    public static long poolLeaseTimeoutSeconds() {
+        return getLong("pool.leaseTimeoutSeconds", 120);
+    }
+}
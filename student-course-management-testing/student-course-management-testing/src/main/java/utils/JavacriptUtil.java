@@ -7,16 +7,22 @@ import org.openqa.selenium.WebElement;
 public class JavacriptUtil extends Utility{
 
     public static void scrollToElement(By locator) {
-        WebElement element = driver.findElement(locator);
+        scrollToElement(getDriver().findElement(locator));
+    }
+
+    public static void scrollToElement(WebElement element) {
         // Cuộn sao cho phần tử nằm ở phía dưới viewport, tránh bị header che
         String jsScript = "arguments[0].scrollIntoView(false);";
-        ((JavascriptExecutor) driver).executeScript(jsScript, element);
+        ((JavascriptExecutor) getDriver()).executeScript(jsScript, element);
     }
 
 
     public static void clickJS(By locator) {
-        WebElement element = driver.findElement(locator);
+        clickJS(getDriver().findElement(locator));
+    }
+
+    public static void clickJS(WebElement element) {
         String jsScript = "arguments[0].click();";
-        ((JavascriptExecutor) driver).executeScript(jsScript, element);
+        ((JavascriptExecutor) getDriver()).executeScript(jsScript, element);
     }
 }
@@ -0,0 +1,109 @@
+package utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Histogram log-tuyến tính theo micro giây (sai số ~3%): mảng bucket cố định, ghi không cấp phát, an toàn đa luồng
+public class LatencyHistogram {
+    // 32 bucket con cho mỗi lũy thừa của 2
+    private static final int SUB_BITS = 5;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB + (64 - SUB_BITS) * SUB;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value / 1_000));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double meanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / (double) n / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    public double totalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    // percentile trong (0, 100], trả về giữa bucket chứa giá trị đó (ms)
+    public double percentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min((lowerBound(i) + upperBound(i)) / 2.0 / 1_000.0, maxMillis());
+            }
+        }
+        return maxMillis();
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count());
+        summary.put("meanMs", round(meanMillis()));
+        summary.put("p50Ms", round(percentileMillis(50)));
+        summary.put("p95Ms", round(percentileMillis(95)));
+        summary.put("p99Ms", round(percentileMillis(99)));
+        summary.put("maxMs", round(maxMillis()));
+        summary.put("totalMs", round(totalMillis()));
+        return summary;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+    static int index(long micros) {
+        if (micros < SUB) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) - SUB;
+        return SUB + (exponent - SUB_BITS) * SUB + sub;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB) {
+            return index;
+        }
+        int exponent = (index - SUB) / SUB + SUB_BITS;
+        int sub = (index - SUB) % SUB;
+        return (long) (SUB + sub) << (exponent - SUB_BITS);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB) {
+            return index;
+        }
+        int exponent = (index - SUB) / SUB + SUB_BITS;
+        return lowerBound(index) + (1L << (exponent - SUB_BITS)) - 1;
+    }
+}
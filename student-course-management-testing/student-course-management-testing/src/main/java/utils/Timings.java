@@ -0,0 +1,79 @@
+package utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Gom thời gian theo tên (count / total / max), an toàn khi nhiều thread cùng ghi
+public class Timings {
+    private static final Map<String, Timings> GROUPS = new ConcurrentHashMap<>();
+
+    private final String group;
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+
+    private Timings(String group) {
+        this.group = group;
+    }
+
+    public static Timings of(String group) {
+        return GROUPS.computeIfAbsent(group, Timings::new);
+    }
+
+    public void record(String name, long nanos) {
+        stats.computeIfAbsent(name, key -> new Stat()).add(nanos);
+    }
+
+    public Map<String, Stat> snapshot() {
+        return new TreeMap<>(stats);
+    }
+
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n[%s]%n%-50s %8s %12s %10s %10s%n", group, "name", "count", "total ms", "avg ms", "max ms"));
+        snapshot().forEach((name, stat) -> out.append(String.format("%-50s %8d %12.1f %10.1f %10.1f%n",
+                name, stat.count(), millis(stat.totalNanos()), millis(stat.averageNanos()), millis(stat.maxNanos()))));
+        return out.toString();
+    }
+
+    public static String reportAll() {
+        StringBuilder out = new StringBuilder();
+        new TreeMap<>(GROUPS).values().forEach(timings -> out.append(timings.report()));
+        return out.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public static class Stat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long totalNanos() {
+            return total.sum();
+        }
+
+        public long maxNanos() {
+            return max.get();
+        }
+
+        public long averageNanos() {
+            long n = count();
+            return n == 0 ? 0 : totalNanos() / n;
+        }
+    }
+}
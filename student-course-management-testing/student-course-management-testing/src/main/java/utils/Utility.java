@@ -1,12 +1,11 @@
 package utils;
 
-import base.BasePage;
+import base.DriverManager;
 import org.openqa.selenium.WebDriver;
 
 public class Utility {
 
-    public static WebDriver driver;
-    public static void setDriver() {
-        driver = BasePage.driver;
+    protected static WebDriver getDriver() {
+        return DriverManager.getDriver();
     }
 }
@@ -0,0 +1,407 @@
+// Bản giả của frontend React (frontend/src) cho StandInApp: cùng route, cùng id, cùng thông báo validation,
+// dữ liệu đi qua /api (JsonStore). Không dùng framework để trang tải xong ngay trong vài mili giây.
+(function () {
+  'use strict';
+
+  var API = '/api';
+  var PAGE_SIZE = 10;
+  var root = document.getElementById('root');
+  var courses = [];
+  var list = { page: 1, search: '', total: 0 };
+  var modal = null;
+
+  function escape(value) {
+    return String(value === null || value === undefined ? '' : value)
+      .replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;').replace(/"/g, '&quot;');
+  }
+
+  function request(method, path, body) {
+    return fetch(API + path, {
+      method: method,
+      headers: body ? { 'Content-Type': 'application/json' } : {},
+      body: body ? JSON.stringify(body) : undefined
+    }).then(function (response) {
+      if (!response.ok) {
+        throw new Error(method + ' ' + path + ' returned ' + response.status);
+      }
+      return response.json().then(function (data) {
+        return { data: data, total: parseInt(response.headers.get('X-Total-Count') || '0', 10) };
+      });
+    });
+  }
+
+  // Giống showMessage trong StudentsPage.js: chỉ một notification, tự ẩn sau 5 giây
+  function showMessage(type, content) {
+    document.querySelectorAll('.alert-notification').forEach(function (n) { n.remove(); });
+    var notification = document.createElement('div');
+    notification.className = 'alert-notification ' + type;
+    notification.innerHTML =
+      '<div class="alert-content">' +
+      '  <div class="alert-icon">' + (type === 'success' ? '✅' : '❌') + '</div>' +
+      '  <div class="alert-text">' +
+      '    <div class="alert-title">' + (type === 'success' ? 'Success!' : 'Error!') + '</div>' +
+      '    <div class="alert-message">' + escape(content) + '</div>' +
+      '  </div>' +
+      '  <button class="alert-close">×</button>' +
+      '</div>';
+    notification.querySelector('.alert-close').onclick = function () { notification.remove(); };
+    document.body.appendChild(notification);
+    setTimeout(function () {
+      notification.classList.add('removing');
+      setTimeout(function () { notification.remove(); }, 300);
+    }, 5000);
+  }
+
+  // ---- Router ----
+
+  function navigate(path) {
+    if (location.pathname !== path) {
+      history.pushState(null, '', path);
+    }
+    render();
+  }
+
+  function render() {
+    closeModal();
+    switch (location.pathname.replace(/\/+$/, '') || '/') {
+      case '/students': return renderStudents();
+      case '/courses': return renderCourses();
+      default: return renderHome();
+    }
+  }
+
+  document.addEventListener('click', function (event) {
+    var link = event.target.closest('[data-link]');
+    if (link) {
+      event.preventDefault();
+      navigate(link.getAttribute('href'));
+    }
+  });
+  window.addEventListener('popstate', render);
+
+  // ---- Home ----
+
+  function renderHome() {
+    root.innerHTML =
+      '<h1>Student Course Management System</h1>' +
+      '<div class="cards">' +
+      card('/students', '👨‍🎓', 'Students Management', 'Manage student information and enrollments') +
+      card('/courses', '📚', 'Courses Management', 'Manage courses, instructors and schedules') +
+      '</div>';
+    root.querySelectorAll('.ant-card').forEach(function (el) {
+      el.onclick = function () { navigate(el.getAttribute('data-path')); };
+    });
+  }
+
+  function card(path, icon, title, description) {
+    return '<div class="ant-card" data-path="' + path + '"><div class="ant-card-body">' +
+      '<div class="card-icon">' + icon + '</div><h3>' + title + '</h3><p>' + description + '</p>' +
+      '</div></div>';
+  }
+
+  // ---- Students ----
+
+  function loadCourses() {
+    return courses.length ? Promise.resolve(courses) : request('GET', '/courses').then(function (r) {
+      courses = r.data;
+      return courses;
+    });
+  }
+
+  function courseName(courseId) {
+    var course = courses.find(function (c) { return String(c.id) === String(courseId); });
+    return course ? course.courseName : 'N/A';
+  }
+
+  function renderStudents() {
+    list.page = 1;
+    list.search = '';
+    root.innerHTML =
+      '<h1 id="students-page-title">Students Management</h1>' +
+      '<div class="toolbar">' +
+      '  <input id="student-search-input" type="text" placeholder="Search by name, email, or student ID...">' +
+      '  <button id="add-student-btn"><span>➕</span> Add New Student</button>' +
+      '</div>' +
+      '<table id="students-table"><thead><tr>' +
+      ['ID', 'First Name', 'Last Name', 'Age', 'Gender', 'Email', 'Phone', 'Course', 'Enrollment Date', 'Status', 'Actions']
+        .map(function (h) { return '<th>' + h + '</th>'; }).join('') +
+      '</tr></thead><tbody><tr><td colspan="11">Loading...</td></tr></tbody></table>' +
+      '<div class="pagination"><button id="prev-page-btn">‹</button><span id="page-info"></span><button id="next-page-btn">›</button></div>';
+
+    document.getElementById('student-search-input').addEventListener('input', function (event) {
+      list.search = event.target.value;
+      list.page = 1;
+      loadStudents();
+    });
+    document.getElementById('add-student-btn').onclick = function () { openModal('add', null); };
+    document.getElementById('prev-page-btn').onclick = function () { changePage(-1); };
+    document.getElementById('next-page-btn').onclick = function () { changePage(1); };
+    loadCourses().then(loadStudents);
+  }
+
+  function changePage(delta) {
+    var pages = Math.max(1, Math.ceil(list.total / PAGE_SIZE));
+    list.page = Math.min(pages, Math.max(1, list.page + delta));
+    loadStudents();
+  }
+
+  function loadStudents() {
+    var query = '?_sort=id&_order=asc&_page=' + list.page + '&_limit=' + PAGE_SIZE +
+      (list.search ? '&q=' + encodeURIComponent(list.search) : '');
+    var search = list.search;
+    return request('GET', '/students' + query).then(function (r) {
+      // Bỏ kết quả của lần tìm kiếm cũ trả về muộn
+      if (search !== list.search || !document.getElementById('students-table')) {
+        return;
+      }
+      list.total = r.total;
+      renderRows(r.data);
+    }).catch(function () {
+      showMessage('error', 'Failed to fetch students');
+    });
+  }
+
+  function renderRows(students) {
+    var body = document.querySelector('#students-table tbody');
+    if (!students.length) {
+      body.innerHTML = '<tr><td colspan="11">No students found</td></tr>';
+    } else {
+      body.innerHTML = students.map(function (s) {
+        return '<tr>' +
+          '<td>' + s.id + '</td><td>' + escape(s.firstName) + '</td><td>' + escape(s.lastName) + '</td>' +
+          '<td>' + escape(s.age) + '</td><td>' + escape(s.gender) + '</td><td>' + escape(s.email) + '</td>' +
+          '<td>' + escape(String(s.phone || '').replace(/^\+/, '')) + '</td><td>' + escape(courseName(s.courseId)) + '</td>' +
+          '<td>' + escape(s.enrollmentDate) + '</td><td>' + escape(s.status) + '</td>' +
+          '<td><div class="actions">' +
+          '<button id="view-student-btn-' + s.id + '">👁️ View</button>' +
+          '<button id="edit-student-btn-' + s.id + '">✏️ Edit</button>' +
+          '<button id="delete-student-btn-' + s.id + '">🗑️ Delete</button>' +
+          '</div></td></tr>';
+      }).join('');
+      students.forEach(function (s) {
+        document.getElementById('view-student-btn-' + s.id).onclick = function () { openModal('view', s); };
+        document.getElementById('edit-student-btn-' + s.id).onclick = function () { openModal('edit', s); };
+        document.getElementById('delete-student-btn-' + s.id).onclick = function () { deleteStudent(s.id); };
+      });
+    }
+    var pages = Math.max(1, Math.ceil(list.total / PAGE_SIZE));
+    document.getElementById('page-info').textContent = list.page + ' / ' + pages;
+  }
+
+  function deleteStudent(id) {
+    if (!window.confirm('Are you sure you want to delete this student?')) {
+      return;
+    }
+    request('DELETE', '/students/' + id).then(function () {
+      showMessage('success', 'Student deleted successfully');
+      loadStudents();
+    }).catch(function () {
+      showMessage('error', 'Failed to delete student');
+    });
+  }
+
+  // ---- Modal ----
+
+  function field(id, label, input, wide) {
+    return '<div class="field' + (wide ? ' wide' : '') + '"><label for="' + id + '">' + label + '</label>' + input + '</div>';
+  }
+
+  function radio(value) {
+    return '<label><input id="modal-gender-' + value.toLowerCase() + '" type="radio" name="gender" value="' + value + '"> ' + value + '</label>';
+  }
+
+  // Danh sách course có thể chưa tải xong nếu bấm Add ngay khi vào trang
+  function openModal(mode, student) {
+    loadCourses().then(function () { showModal(mode, student); });
+  }
+
+  function showModal(mode, student) {
+    closeModal();
+    var view = mode === 'view';
+    var overlay = document.createElement('div');
+    overlay.id = 'student-modal-overlay';
+    overlay.innerHTML =
+      '<div class="modal">' +
+      '<div class="modal-header"><h2 id="modal-title">' +
+      (mode === 'add' ? 'Add New Student' : mode === 'edit' ? 'Edit Student' : 'Student Details') +
+      '</h2><button id="modal-close-btn">×</button></div>' +
+      '<div class="modal-body">' +
+      field('modal-first-name', 'First Name', '<input id="modal-first-name" type="text" placeholder="Enter first name">') +
+      field('modal-last-name', 'Last Name', '<input id="modal-last-name" type="text" placeholder="Enter last name">') +
+      field('modal-age', 'Age', '<input id="modal-age" type="number" min="1" placeholder="Enter age">') +
+      '<div class="field"><label>Gender</label><div class="flex gap-4">' + radio('Male') + radio('Female') + radio('Other') + '</div></div>' +
+      field('modal-email', 'Email', '<input id="modal-email" type="email" placeholder="Enter email address">', true) +
+      field('modal-phone', 'Phone', '<input id="modal-phone" type="text" placeholder="Enter phone number">', true) +
+      field('modal-course', 'Course', '<select id="modal-course"><option value="">Select a course</option>' +
+        courses.map(function (c) { return '<option value="' + c.id + '">' + escape(c.courseCode) + ' - ' + escape(c.courseName) + '</option>'; }).join('') +
+        '</select>', true) +
+      field('modal-enrollment-date', 'Enrollment Date', '<input id="modal-enrollment-date" type="date">', true) +
+      '<div class="field wide"><label><input id="modal-status" type="checkbox"> Active</label></div>' +
+      '</div>' +
+      '<div class="modal-footer"><button id="modal-cancel-btn">Cancel</button>' +
+      '<button id="modal-ok-btn">' + (view ? 'Close' : mode === 'add' ? 'Create' : 'Update') + '</button></div>' +
+      '</div>';
+    document.body.appendChild(overlay);
+
+    var s = student || {};
+    setField('modal-first-name', s.firstName);
+    setField('modal-last-name', s.lastName);
+    setField('modal-age', s.age);
+    setField('modal-email', s.email);
+    setField('modal-phone', s.phone);
+    setField('modal-course', s.courseId);
+    setField('modal-enrollment-date', s.enrollmentDate);
+    if (s.gender) {
+      var gender = document.getElementById('modal-gender-' + String(s.gender).toLowerCase());
+      if (gender) { gender.checked = true; }
+    }
+    document.getElementById('modal-status').checked = student ? student.status === 'Active' : true;
+    overlay.querySelectorAll('input, select').forEach(function (el) {
+      el.disabled = view;
+      // Như handleInputChange: sửa field nào thì ẩn lỗi của field đó
+      el.addEventListener(el.tagName === 'SELECT' || el.type === 'radio' || el.type === 'checkbox' ? 'change' : 'input', function () {
+        setError(el.name === 'gender' ? 'gender' : el.id.replace('modal-', ''), null);
+      });
+    });
+
+    modal = { mode: mode, student: student, overlay: overlay };
+    document.getElementById('modal-close-btn').onclick = closeModal;
+    document.getElementById('modal-cancel-btn').onclick = closeModal;
+    document.getElementById('modal-ok-btn').onclick = submit;
+  }
+
+  function setField(id, value) {
+    document.getElementById(id).value = value === null || value === undefined ? '' : value;
+  }
+
+  function closeModal() {
+    if (modal) {
+      modal.overlay.remove();
+      modal = null;
+    }
+  }
+
+  // Lỗi nằm ngay sau input (với gender là sau div .gap-4), giống cấu trúc JSX của StudentsPage.js
+  function setError(name, message) {
+    var anchor = name === 'gender'
+      ? document.getElementById('modal-gender-male').closest('.gap-4')
+      : document.getElementById('modal-' + name);
+    var existing = anchor.nextElementSibling;
+    if (existing && existing.tagName === 'P') {
+      existing.remove();
+    }
+    if (message) {
+      var p = document.createElement('p');
+      p.className = 'text-red-500';
+      p.textContent = message;
+      anchor.insertAdjacentElement('afterend', p);
+    }
+  }
+
+  function formData() {
+    function value(id) { return document.getElementById(id).value; }
+    var checked = document.querySelector("input[name='gender']:checked");
+    return {
+      firstName: value('modal-first-name'),
+      lastName: value('modal-last-name'),
+      age: value('modal-age'),
+      gender: checked ? checked.value : '',
+      email: value('modal-email'),
+      phone: value('modal-phone'),
+      courseId: value('modal-course'),
+      enrollmentDate: value('modal-enrollment-date'),
+      status: document.getElementById('modal-status').checked
+    };
+  }
+
+  // Cùng quy tắc và thông báo với validateForm trong StudentsPage.js
+  function validate(data) {
+    var errors = {};
+    if (!data.firstName) {
+      errors['first-name'] = 'FirstName cannot be empty';
+    } else if (!/^[A-Za-z]+$/.test(data.firstName)) {
+      errors['first-name'] = 'FirstName must follow the format [A-Za-z]';
+    }
+    if (!data.lastName) {
+      errors['last-name'] = 'LastName cannot be empty';
+    } else if (!/^[A-Za-z]+$/.test(data.lastName)) {
+      errors['last-name'] = 'Lastname must follow the format [A-Za-z]';
+    }
+    if (!data.age) {
+      errors.age = 'Age cannot be empty';
+    } else if (!Number.isInteger(Number(data.age)) || Number(data.age) < 1) {
+      errors.age = 'Age must be a positive integer';
+    }
+    if (!data.gender) {
+      errors.gender = 'Gender must be selected';
+    }
+    if (!data.email) {
+      errors.email = 'Email cannot be empty';
+    } else if (!/^[^\s@]+@[^\s@]+\.[^\s@]+$/.test(data.email)) {
+      errors.email = 'Email must be in the correct format';
+    }
+    if (!data.phone) {
+      errors.phone = 'Phone cannot be empty';
+    } else if (!/^[0-9]{10,12}$/.test(data.phone)) {
+      errors.phone = 'Phone must be 10-12 digits and in the range [0-9]';
+    }
+    if (!data.courseId) {
+      errors.course = 'Course must be selected';
+    }
+    if (!data.enrollmentDate) {
+      errors['enrollment-date'] = 'Enrollment Date must be selected';
+    }
+    return errors;
+  }
+
+  function submit() {
+    if (modal.mode === 'view') {
+      closeModal();
+      return;
+    }
+    var data = formData();
+    var errors = validate(data);
+    ['first-name', 'last-name', 'age', 'gender', 'email', 'phone', 'course', 'enrollment-date'].forEach(function (name) {
+      setError(name, errors[name]);
+    });
+    if (Object.keys(errors).length) {
+      showMessage('error', 'Please fill in all required fields');
+      return;
+    }
+    var student = {
+      firstName: data.firstName, lastName: data.lastName, email: data.email, phone: data.phone,
+      age: data.age, gender: data.gender, courseId: data.courseId, enrollmentDate: data.enrollmentDate,
+      status: data.status ? 'Active' : 'Inactive'
+    };
+    var mode = modal.mode;
+    var call = mode === 'add'
+      ? request('POST', '/students', student)
+      : request('PUT', '/students/' + modal.student.id, student);
+    call.then(function () {
+      showMessage('success', 'Add student successful');
+      closeModal();
+      loadStudents();
+    }).catch(function () {
+      showMessage('error', 'Failed to ' + mode + ' student');
+    });
+  }
+
+  // ---- Courses ----
+
+  function renderCourses() {
+    root.innerHTML = '<h1 id="courses-page-title">Courses Management</h1><table id="courses-table"><thead><tr>' +
+      '<th>Code</th><th>Name</th><th>Instructor</th><th>Capacity</th><th>Status</th></tr></thead><tbody></tbody></table>';
+    courses = [];
+    loadCourses().then(function () {
+      var body = document.querySelector('#courses-table tbody');
+      if (body) {
+        body.innerHTML = courses.map(function (c) {
+          return '<tr><td>' + escape(c.courseCode) + '</td><td>' + escape(c.courseName) + '</td><td>' + escape(c.instructor) +
+            '</td><td>' + escape(c.capacity) + '</td><td>' + escape(c.status) + '</td></tr>';
+        }).join('');
+      }
+    });
+  }
+
+  render();
+})();
@@ -0,0 +1,174 @@
+package base;
+
+import utils.Config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+// Ghi artifact lỗi ở thread nền: decode screenshot, nén DOM, ghi file qua FileChannel.
+// Hàng đợi có giới hạn: đầy thì bỏ bundle (đếm lại) chứ không bắt thread test chờ.
+// Mỗi lần chạy có một ngân sách dung lượng (-Dartifacts.budgetMb), hết thì ngừng chụp.
+final class ArtifactWriter {
+    private static final String RUN_ID = Config.get("artifacts.runId",
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+    private static final Path RUN_DIR = Path.of(Config.get("artifacts.dir", "target/failures"), RUN_ID);
+    // Runner chia ngân sách cho các worker JVM (-Dartifacts.budgetShare=số worker)
+    private static final long BUDGET_BYTES = Config.getLong("artifacts.budgetMb", 64) * 1024 * 1024
+            / Math.max(1, Config.getInt("artifacts.budgetShare", 1));
+    // Base64 decode theo từng khúc (bội số của 4) để không dựng cả ảnh thành một byte[]
+    private static final int CHUNK_CHARS = 64 * 1024;
+
+    private static final AtomicLong used = new AtomicLong();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final LongAdder dropped = new LongAdder();
+    private static final ThreadPoolExecutor EXECUTOR = executor();
+
+    private ArtifactWriter() {
+    }
+
+    record Bundle(String name, String failure, String screenshotBase64, String dom, String console, String form) {
+    }
+
+    private static ThreadPoolExecutor executor() {
+        int threads = Config.getInt("artifacts.threads", 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Config.getInt("artifacts.queue", 8)),
+                // Ưu tiên thấp để nén/ghi không tranh CPU với các thread đang chạy test
+                Thread.ofPlatform().name("failure-artifacts-", 0).daemon(true).priority(Thread.MIN_PRIORITY).factory(),
+                (task, pool) -> {
+                    pending.decrementAndGet();
+                    dropped.increment();
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static boolean hasBudget() {
+        return used.get() < BUDGET_BYTES;
+    }
+
+    // Trả về ngay; bundle giữ các String đã lấy từ browser cho tới khi thread nền ghi xong
+    static void submit(Bundle bundle) {
+        pending.incrementAndGet();
+        EXECUTOR.execute(() -> {
+            try {
+                write(bundle);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[artifacts] " + bundle.name() + ": " + e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    // Chờ các bundle đang xếp hàng được ghi xong, gọi trước khi JVM thoát
+    static void flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        if (dropped.sum() > 0 || used.get() >= BUDGET_BYTES || pending.get() > 0) {
+            System.out.printf("[artifacts] %s: %d KB used of %d KB, %d bundles dropped (queue full), %d still pending%n",
+                    RUN_DIR, used.get() / 1024, BUDGET_BYTES / 1024, dropped.sum(), pending.get());
+        }
+    }
+
+    private static void write(Bundle bundle) throws IOException {
+        Path dir = Files.createDirectories(RUN_DIR.resolve(bundle.name()));
+        List<String> skipped = new ArrayList<>();
+        if (bundle.screenshotBase64() != null
+                && !writeIfBudget(dir.resolve("screenshot.png"), bundle.screenshotBase64().length() * 3L / 4,
+                        channel -> decodeTo(bundle.screenshotBase64(), channel))) {
+            skipped.add("screenshot.png");
+        }
+        if (bundle.dom() != null
+                && !writeIfBudget(dir.resolve("dom.html.gz"), bundle.dom().length() / 8,
+                        channel -> gzipTo(bundle.dom(), channel))) {
+            skipped.add("dom.html.gz");
+        }
+        if (bundle.console() != null
+                && !writeIfBudget(dir.resolve("console.log"), bundle.console().length(),
+                        channel -> textTo(bundle.console(), channel))) {
+            skipped.add("console.log");
+        }
+        if (bundle.form() != null
+                && !writeIfBudget(dir.resolve("form.json"), bundle.form().length(),
+                        channel -> textTo(bundle.form(), channel))) {
+            skipped.add("form.json");
+        }
+        // failure.txt luôn được ghi (nhỏ) để biết artifact nào bị bỏ vì hết ngân sách
+        String failure = skipped.isEmpty() ? bundle.failure()
+                : bundle.failure() + System.lineSeparator() + "Skipped (artifact budget exhausted): " + skipped;
+        used.addAndGet(write(dir.resolve("failure.txt"), channel -> textTo(failure, channel)));
+    }
+
+    private interface ChannelWrite {
+        void to(FileChannel channel) throws IOException;
+    }
+
+    private static boolean writeIfBudget(Path file, long estimate, ChannelWrite content) throws IOException {
+        if (used.get() + estimate > BUDGET_BYTES) {
+            return false;
+        }
+        used.addAndGet(write(file, content));
+        return true;
+    }
+
+    private static long write(Path file, ChannelWrite content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            content.to(channel);
+            return channel.size();
+        }
+    }
+
+    private static void decodeTo(String base64, FileChannel channel) throws IOException {
+        Base64.Decoder decoder = Base64.getDecoder();
+        for (int start = 0; start < base64.length(); start += CHUNK_CHARS) {
+            String chunk = base64.substring(start, Math.min(base64.length(), start + CHUNK_CHARS));
+            ByteBuffer bytes = ByteBuffer.wrap(decoder.decode(chunk));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    private static void gzipTo(String text, FileChannel channel) throws IOException {
+        // Không đóng stream: channel do write(...) quản lý, chỉ cần finish() phần gzip
+        GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+        writer.write(text);
+        writer.flush();
+        gzip.finish();
+    }
+
+    private static void textTo(String text, FileChannel channel) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(text);
+        writer.flush();
+    }
+}
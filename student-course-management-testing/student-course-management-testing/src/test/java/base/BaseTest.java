@@ -1,46 +1,137 @@
 package base;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import pages.homepage.HomePage;
-import utils.Utility;
+import pages.navigation.AppNavigator;
+import server.StandInApp;
+import server.StandInBackend;
+import utils.Config;
+import utils.Timings;
 
-import static base.BasePage.delay;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.file.Path;
 
 public class BaseTest {
-    private WebDriver driver;
-    protected BasePage basePage;
-    protected HomePage homePage;
-    private String url = "http://localhost:3000/";
+    private static DriverPool pool;
+    private static StandInBackend backend;
+    private static StandInApp standIn;
 
+    // Test instance được dùng chung giữa các thread khi chạy parallel="methods",
+    // nên page object phải gắn với thread chứ không phải field của instance
+    private final ThreadLocal<HomePage> homePage = new ThreadLocal<>();
 
-    @BeforeClass
-    public void setup() {
-        System.setProperty("webdriver.chrome.driver", "C:\\driver\\chromedriver-win64\\chromedriver.exe");
-        ChromeOptions options = new ChromeOptions();
+    // -Ddriver.profile=local|headless|ci, xem DriverFactory
+    protected WebDriver createDriver() {
+        return DriverFactory.create();
+    }
 
-        options.setBinary("C:\\driver\\chrome-win64\\chrome.exe");
+    // -Dstandin=true: chạy cả app giả trong JVM (server.StandInApp), không cần frontend lẫn json-server.
+    // -Dbackend.standin=true: chỉ thay json-server bằng backend giả ở cổng của api.url, vẫn dùng frontend thật
+    @BeforeSuite(alwaysRun = true)
+    public void startStandIn() {
+        if (standIn != null || backend != null) {
+            return;
+        }
+        if (Config.getBoolean("standin", false)) {
+            standIn = StandInApp.start(Config.getInt("standin.port", 0));
+            System.setProperty("app.url", standIn.url());
+            System.setProperty("api.url", standIn.apiUrl());
+        } else if (Config.getBoolean("backend.standin", false)) {
+            backend = StandInBackend.start(URI.create(Config.apiUrl()).getPort());
+        }
+    }
 
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
+    // Worker của runner.WorkStealingRunner chạy nhiều suite liên tiếp trong một JVM: dùng lại pool đã có
+    @BeforeSuite(alwaysRun = true)
+    public void startPool() {
+        if (pool != null) {
+            return;
+        }
+        pool = new DriverPool(this::createDriver, Config.poolSize(), Config.poolLeaseTimeoutSeconds());
+        pool.warmUp(Config.poolWarmup());
     }
 
     @BeforeMethod
-    public void loadApplication() {
-        driver.get(url);
-        basePage = new BasePage();
-        basePage.setDriver(driver);
-        Utility.setDriver();
-        homePage = new HomePage();
+    public void loadApplication(Method method) {
+        CommandMetrics.startTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        DriverManager.setDriver(pool.lease());
+        BackendStubs.attach(DriverManager.getDriver());
+        LatencyProbes.attach(DriverManager.getDriver());
+    }
+
+    // Trang chủ chỉ được tải khi test thật sự đi theo đường click card trên UI.
+    // -Dreset.mode=soft: đưa app đang mở về trang chủ phía client thay vì tải lại (xem AppNavigator)
+    protected HomePage homePage() {
+        if (homePage.get() == null) {
+            if ("soft".equalsIgnoreCase(Config.get("reset.mode", "reload"))) {
+                homePage.set(navigator().openHomePage());
+            } else {
+                DriverManager.getDriver().get(Config.appUrl());
+                homePage.set(new HomePage());
+            }
+        }
+        return homePage.get();
+    }
+
+    // Mở thẳng route/modal cần test, bỏ qua trang chủ
+    protected AppNavigator navigator() {
+        return new AppNavigator(Config.appUrl());
     }
 
-    @AfterClass
+    @AfterMethod(alwaysRun = true)
+    public void releaseDriver() {
+        if (DriverManager.hasDriver()) {
+            LatencyProbes.collect(DriverManager.getDriver());
+            BackendStubs.release(DriverManager.getDriver());
+            pool.release(DriverManager.getDriver());
+            DriverManager.unload();
+        }
+        homePage.remove();
+        CommandMetrics.endTest();
+    }
+
+    @AfterSuite(alwaysRun = true)
     public void tearDown() {
-        delay(2);
-//        driver.quit();
+        // Worker tự đóng khi hết việc
+        if (Config.get("runner.worker", null) != null) {
+            return;
+        }
+        closeSharedResources();
+        exportMetrics("driver-commands");
+    }
+
+    // -Dmetrics.dir (mặc định target/metrics): p50/p95/p99 của từng lệnh WebDriver dạng JSON, kèm bảng ra console,
+    // trạng thái từng locator của LocatorRegistry (CSS hay XPath, chi phí resolve trong browser)
+    // và độ trễ trong trang của từng tương tác (LatencyProbes)
+    public static void exportMetrics(String name) {
+        Path dir = Path.of(Config.get("metrics.dir", "target/metrics"));
+        CommandMetrics.writeJson(dir.resolve(name + ".json"));
+        LocatorRegistry.writeJson(dir.resolve(name.replace("driver-commands", "locators") + ".json"));
+        LatencyProbes.writeJson(dir.resolve(name.replace("driver-commands", "interactions") + ".json"));
+        System.out.println(Timings.reportAll());
+        System.out.println(CommandMetrics.report());
+        System.out.println(LocatorRegistry.report());
+        System.out.println(LatencyProbes.report());
+    }
+
+    public static synchronized void closeSharedResources() {
+        FailureArtifactListener.flush();
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+        if (backend != null) {
+            backend.close();
+            backend = null;
+        }
+        if (standIn != null) {
+            standIn.close();
+            standIn = null;
+        }
     }
 }
@@ -0,0 +1,122 @@
+package base;
+
+import data.PartitionCase;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import pages.students.FormStudentModal;
+import utils.Config;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Khi một test UI fail: lấy screenshot, DOM, console log của browser và trạng thái form ngay trên thread test
+// (lúc driver vẫn còn được lease, trước @AfterMethod), rồi giao cho ArtifactWriter ghi ở thread nền.
+// Kết quả ở target/failures/<run>/<Class.method>/; -Dartifacts=false để tắt
+public class FailureArtifactListener implements IInvokedMethodListener {
+    private static final Json JSON = new Json();
+    // Số lần mỗi tên thư mục đã dùng trong lần chạy này, để hai dòng data provider trùng tên không ghi đè nhau
+    private static final Map<String, AtomicInteger> NAMES = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.FAILURE
+                || !Config.getBoolean("artifacts", true) || !DriverManager.hasDriver()) {
+            return;
+        }
+        // Hết ngân sách thì không chụp nữa, đỡ cả các round trip tới browser
+        if (!ArtifactWriter.hasBudget()) {
+            return;
+        }
+        WebDriver driver = DriverManager.getDriver();
+        String url = capture(driver::getCurrentUrl);
+        ArtifactWriter.submit(new ArtifactWriter.Bundle(
+                name(result),
+                describe(result, url),
+                capture(() -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64)),
+                capture(driver::getPageSource),
+                capture(() -> console(driver)),
+                capture(() -> JSON.toJson(FormStudentModal.readFormState(driver)))));
+    }
+
+    // Browser đã ở trạng thái lỗi thì phần nào lấy được thì lấy, không để listener làm hỏng thêm test
+    private static String capture(Supplier<String> part) {
+        try {
+            return part.get();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String console(WebDriver driver) {
+        StringBuilder out = new StringBuilder();
+        for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+            out.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                    .append(entry.getLevel()).append(' ')
+                    .append(entry.getMessage()).append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    private static String name(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        if (result.getParameters().length > 0) {
+            // Mỗi dòng data provider một thư mục riêng, đặt theo id của dòng (vd. id của PartitionCase) để đọc là biết case nào
+            name += "-" + label(result.getParameters()[0]);
+        }
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        int seen = NAMES.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+        return seen == 1 ? name : name + "-" + seen;
+    }
+
+    private static String label(Object parameter) {
+        if (parameter instanceof PartitionCase partition) {
+            return partition.id();
+        }
+        // Nhóm case của testValidationGroup: id case đầu và số case trong nhóm
+        if (parameter instanceof List<?> group && !group.isEmpty()) {
+            return label(group.get(0)) + "+" + (group.size() - 1);
+        }
+        String text = String.valueOf(parameter);
+        return text.length() > 60 ? text.substring(0, 60) : text;
+    }
+
+    private static String describe(ITestResult result, String url) {
+        StringWriter out = new StringWriter();
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("Test: " + result.getTestClass().getName() + "." + result.getMethod().getMethodName());
+        if (result.getParameters().length > 0) {
+            writer.println("Parameters: " + Arrays.stream(result.getParameters()).map(String::valueOf)
+                    .collect(Collectors.joining(", ")));
+        }
+        writer.println("Thread: " + Thread.currentThread().getName());
+        writer.println("Duration: " + (result.getEndMillis() - result.getStartMillis()) + " ms");
+        writer.println("URL: " + url);
+        writer.println();
+        if (result.getThrowable() != null) {
+            result.getThrowable().printStackTrace(writer);
+        }
+        writer.flush();
+        return out.toString();
+    }
+
+    // Gọi khi đóng tài nguyên dùng chung (BaseTest, Worker) để artifact cuối cùng kịp ghi xuống đĩa
+    public static void flush() {
+        ArtifactWriter.flush(Duration.ofSeconds(Config.getLong("artifacts.flushSeconds", 30)));
+    }
+}
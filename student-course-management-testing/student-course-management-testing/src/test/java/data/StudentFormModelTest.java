@@ -0,0 +1,92 @@
+package data;
+
+import models.Student;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Kiểm tra mô hình sinh case, không cần browser: độ phủ t-wise của các hàng hợp lệ, tính tất định theo seed
+// và quy tắc single fault của các case lỗi
+public class StudentFormModelTest {
+
+    @Test
+    public void testPairwiseCoversEveryValidPair() {
+        assertCovers(2);
+    }
+
+    @Test
+    public void testThreeWiseCoversEveryValidTriple() {
+        assertCovers(3);
+    }
+
+    @Test
+    public void testSameSeedGivesSameCases() {
+        List<PartitionCase> first = StudentFormModel.cases(2, 1).toList();
+        List<PartitionCase> second = StudentFormModel.cases(2, 1).toList();
+
+        Assert.assertEquals(second.stream().map(PartitionCase::id).toList(), first.stream().map(PartitionCase::id).toList(),
+                "Same strength and seed should give the same case ids");
+        Assert.assertEquals(second.stream().map(PartitionCase::student).toList(), first.stream().map(PartitionCase::student).toList(),
+                "Same strength and seed should give the same rows");
+    }
+
+    @Test
+    public void testEveryInvalidCaseHasExactlyOneError() {
+        List<PartitionCase> invalid = StudentFormModel.cases(2, 1).filter(testCase -> !testCase.expectsSuccess()).toList();
+        long expected = StudentFormModel.FIELDS.stream().mapToLong(field -> field.invalid().size()).sum();
+
+        Assert.assertEquals(invalid.size(), expected, "Every invalid value should get its own case");
+        for (PartitionCase testCase : invalid) {
+            Assert.assertEquals(testCase.expectedErrors().size(), 1, testCase.id() + " should expect exactly one error");
+        }
+    }
+
+    private static void assertCovers(int strength) {
+        List<int[]> rows = StudentFormModel.cases(strength, 1)
+                .filter(PartitionCase::expectsSuccess)
+                .map(testCase -> indices(testCase.student()))
+                .toList();
+        int columns = StudentFormModel.FIELDS.size();
+        assertCovers(rows, new int[strength], 0, 0, columns);
+    }
+
+    // Với mọi tổ hợp t cột, mọi bộ giá trị hợp lệ của các cột đó phải xuất hiện trong ít nhất một hàng
+    private static void assertCovers(List<int[]> rows, int[] combo, int depth, int from, int columns) {
+        if (depth == combo.length) {
+            Set<List<Integer>> seen = new HashSet<>();
+            for (int[] row : rows) {
+                seen.add(Arrays.stream(combo).mapToObj(column -> row[column]).toList());
+            }
+            long expected = 1;
+            for (int column : combo) {
+                expected *= StudentFormModel.FIELDS.get(column).valid().size();
+            }
+            Assert.assertEquals(seen.size(), expected, "Uncovered value tuples for fields " + names(combo));
+            return;
+        }
+        for (int column = from; column < columns; column++) {
+            combo[depth] = column;
+            assertCovers(rows, combo, depth + 1, column + 1, columns);
+        }
+    }
+
+    private static int[] indices(Student student) {
+        List<String> values = List.of(student.firstName(), student.lastName(), student.age(), student.gender(),
+                student.email(), student.phone(), student.course(), student.enrollmentDate());
+        int[] row = new int[values.size()];
+        for (int column = 0; column < row.length; column++) {
+            List<String> valid = StudentFormModel.FIELDS.get(column).valid().stream().map(StudentFormModel.Choice::value).toList();
+            row[column] = valid.indexOf(values.get(column));
+            Assert.assertTrue(row[column] >= 0, "Valid case has a value outside the model: " + values.get(column));
+        }
+        return row;
+    }
+
+    private static List<String> names(int[] combo) {
+        return Arrays.stream(combo).mapToObj(column -> StudentFormModel.FIELDS.get(column).name()).toList();
+    }
+}
@@ -0,0 +1,52 @@
+package runner;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// Kết nối coordinator <-> worker: mỗi message là một object JSON trên một dòng
+class Channel implements Closeable {
+    private static final Json JSON = new Json();
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final BufferedWriter out;
+
+    Channel(Socket socket) throws IOException {
+        this.socket = socket;
+        this.socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    synchronized void send(Map<String, Object> message) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonOutput output = JSON.newOutput(line)) {
+            output.setPrettyPrint(false).write(message);
+        }
+        out.write(line.toString());
+        out.newLine();
+        out.flush();
+    }
+
+    // null khi đầu bên kia đã đóng kết nối
+    Map<String, Object> receive() throws IOException {
+        String line = in.readLine();
+        return line == null ? null : JSON.toType(line, Json.MAP_TYPE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
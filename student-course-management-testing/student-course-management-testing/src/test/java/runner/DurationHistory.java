@@ -0,0 +1,103 @@
+package runner;
+
+import utils.Config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Thời gian chạy của từng test qua các lần chạy trước (trung bình trượt), lưu ngoài target/ để không mất khi mvn clean.
+// Key: "class#method" (cả method) hoặc id của WorkItem ("class#method[3]", một dòng data provider)
+public class DurationHistory {
+    // Trọng số của lần chạy mới nhất: đủ lớn để theo kịp khi test chậm đi, đủ nhỏ để không bị một lần chạy lạ làm lệch
+    private static final double ALPHA = 0.3;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    // -Dhistory.file=... ; mặc định .test-history/durations.properties trong thư mục module
+    public static DurationHistory load() {
+        return load(Path.of(Config.get("history.file", ".test-history/durations.properties")));
+    }
+
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            properties.forEach((key, value) -> {
+                String[] parts = ((String) value).split(",");
+                try {
+                    history.entries.put((String) key, new Entry(Double.parseDouble(parts[0]), Long.parseLong(parts[1])));
+                } catch (RuntimeException e) {
+                    // Dòng hỏng thì bỏ qua, lần chạy này sẽ ghi lại
+                }
+            });
+        }
+        return history;
+    }
+
+    public OptionalLong estimate(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? OptionalLong.empty() : OptionalLong.of(Math.round(entry.averageMillis));
+    }
+
+    // Test chưa có lịch sử được coi là lâu nhất, để không bị xếp vào cuối rồi kéo dài cả lần chạy
+    public long estimateOrLongest(String key) {
+        return estimate(key).orElseGet(() -> entries.values().stream()
+                .mapToLong(entry -> Math.round(entry.averageMillis))
+                .max()
+                .orElse(0));
+    }
+
+    public void record(String key, long millis) {
+        entries.merge(key, new Entry(millis, 1),
+                (old, latest) -> new Entry(old.averageMillis + ALPHA * (latest.averageMillis - old.averageMillis), old.runs + 1));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    // Ghi ra file tạm rồi đổi tên để lần chạy bị ngắt giữa chừng không để lại file hỏng
+    public void save() {
+        StringBuilder content = new StringBuilder("# average millis,runs\n");
+        new TreeMap<>(entries).forEach((key, entry) -> content
+                .append(key.replace(":", "\\:").replace("=", "\\=").replace(" ", "\\ "))
+                .append('=').append(String.format(Locale.ROOT, "%.1f", entry.averageMillis))
+                .append(',').append(entry.runs).append('\n'));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "durations", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(content.toString());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(double averageMillis, long runs) {
+    }
+}
@@ -0,0 +1,333 @@
+package runner;
+
+import base.DriverFactory;
+import base.DriverManager;
+import fixtures.TestDataFixture;
+import models.Student;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import pages.homepage.HomePage;
+import pages.students.FormSnapshot;
+import pages.students.FormStudentModal;
+import server.StandInApp;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Chạy tải bằng browser thật: mỗi người dùng ảo là một virtual thread giữ một Chrome headless riêng và lặp lại
+// luồng Add (HomePage -> StudentsManagementPage -> FormStudentModal) hoặc Edit qua đúng các page object của test,
+// tới khi hết thời gian. Người dùng được khởi động rải đều trong thời gian ramp-up.
+// Báo cáo số luồng xong mỗi giây, tỉ lệ lỗi và p50/p95/p99 thời gian một luồng, ra console và target/load/load-report.json.
+// Chạy: mvn -Pload verify -Dload.users=30 -Dload.rampUpSeconds=60 -Dload.durationSeconds=300 "-Dload.jvmArgs=-Dload.editRatio=0.5 -Dapp.url=..."
+// Runner chạy trong JVM riêng (exec:exec): mọi -D khác ba tham số trên phải đặt trong -Dload.jvmArgs, kể cả -Dstandin=true.
+// Tỉ lệ lỗi (cả browser không mở được) vượt -Dload.maxErrorRate (mặc định 0.05) thì thoát với mã 1
+public class LoadRunner {
+    private static final String RUN_ID = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+    private static final String COURSE = "CS201 - Data Structures and Algorithms";
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+
+    enum Flow {
+        ADD, EDIT
+    }
+
+    private static final class FlowStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        // Chỉ các luồng xong sau ramp-up, để throughput không bị kéo xuống bởi lúc người dùng còn đang vào dần
+        final LongAdder steadyCompleted = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final int users;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final double editRatio;
+    private final Duration think;
+    private final DriverFactory.Profile profile;
+    private final TestDataFixture fixture = new TestDataFixture();
+    private final Map<Flow, FlowStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorKinds = new ConcurrentHashMap<>();
+    // Người dùng ảo không mở được browser: không chạy được luồng nào nhưng vẫn phải tính vào tỉ lệ lỗi
+    private final LongAdder sessionFailures = new LongAdder();
+    private final Set<String> createdEmails = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long lastStudentIdBefore;
+
+    private LoadRunner() {
+        this.users = Math.max(1, Config.getInt("load.users", 20));
+        this.rampUp = Duration.ofSeconds(Config.getLong("load.rampUpSeconds", 30));
+        this.duration = Duration.ofSeconds(Config.getLong("load.durationSeconds", 120));
+        this.editRatio = Double.parseDouble(Config.get("load.editRatio", "0.3"));
+        this.think = Duration.ofMillis(Config.getLong("load.thinkMs", 0));
+        this.profile = DriverFactory.Profile.fromName(Config.get("load.profile", "headless"));
+        for (Flow flow : Flow.values()) {
+            stats.put(flow, new FlowStats());
+        }
+        this.lastStudentIdBefore = fixture.lastStudentId();
+    }
+
+    public static void main(String[] args) throws Exception {
+        // -Dstandin=true: app giả trong JVM như khi chạy test, tiện để thử cấu hình trước khi chạy với app thật
+        StandInApp standIn = null;
+        if (Config.getBoolean("standin", false)) {
+            standIn = StandInApp.start(Config.getInt("standin.port", 0));
+            System.setProperty("app.url", standIn.url());
+            System.setProperty("api.url", standIn.apiUrl());
+        }
+        try {
+            LoadRunner runner = new LoadRunner();
+            runner.run();
+            double errorRate = runner.errorRate();
+            double maxErrorRate = Double.parseDouble(Config.get("load.maxErrorRate", "0.05"));
+            if (errorRate > maxErrorRate) {
+                System.err.printf("[load] error rate %.2f%% is above -Dload.maxErrorRate=%.2f%%%n", errorRate * 100, maxErrorRate * 100);
+            }
+            System.exit(errorRate > maxErrorRate ? 1 : 0);
+        } finally {
+            if (standIn != null) {
+                standIn.close();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Load: %d users, ramp-up %d s, duration %d s, %.0f%% edit flows, app %s%n",
+                users, rampUp.toSeconds(), duration.toSeconds(), editRatio * 100, Config.appUrl());
+        long start = System.nanoTime();
+        long rampEnd = start + rampUp.toNanos();
+        long deadline = start + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            long startAt = start + rampUp.toNanos() * user / users;
+            int index = user;
+            threads.add(Thread.ofVirtual().name("load-user-" + user).start(() -> user(index, startAt, rampEnd, deadline)));
+        }
+        Thread progress = Thread.ofVirtual().name("load-progress").start(() -> progress(start));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        progress.interrupt();
+        long elapsed = System.nanoTime() - start;
+        long steadyNanos = Math.max(1, Math.min(elapsed, deadline - start) - rampUp.toNanos());
+
+        System.out.println(report(elapsed, steadyNanos));
+        writeJson(Path.of(Config.get("load.reportDir", "target/load")).resolve("load-report.json"), elapsed, steadyNanos);
+        cleanup();
+    }
+
+    private void user(int index, long startAt, long rampEnd, long deadline) {
+        if (!sleepUntil(startAt)) {
+            return;
+        }
+        WebDriver driver;
+        try {
+            driver = DriverFactory.create(profile);
+        } catch (RuntimeException e) {
+            sessionFailures.increment();
+            error("session: " + e.getClass().getSimpleName());
+            return;
+        }
+        DriverManager.setDriver(driver);
+        active.incrementAndGet();
+        try {
+            while (System.nanoTime() < deadline) {
+                Flow flow = ThreadLocalRandom.current().nextDouble() < editRatio ? Flow.EDIT : Flow.ADD;
+                FlowStats flowStats = stats.get(flow);
+                try {
+                    // Chuẩn bị dữ liệu (seed qua API cho luồng Edit) trước khi bấm giờ, chỉ đo phần trên browser
+                    Runnable steps = flow == Flow.ADD ? addFlow(index) : editFlow(index);
+                    long begin = System.nanoTime();
+                    steps.run();
+                    long end = System.nanoTime();
+                    flowStats.latency.record(end - begin);
+                    if (end >= rampEnd && end <= deadline) {
+                        flowStats.steadyCompleted.increment();
+                    }
+                } catch (RuntimeException | AssertionError e) {
+                    flowStats.errors.increment();
+                    error(flow + ": " + e.getClass().getSimpleName());
+                }
+                if (!think.isZero() && !sleepUntil(System.nanoTime() + think.toNanos())) {
+                    return;
+                }
+            }
+        } finally {
+            active.decrementAndGet();
+            DriverManager.unload();
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                // Browser đã chết giữa chừng, không còn gì để đóng
+            }
+        }
+    }
+
+    private Runnable addFlow(int user) {
+        String email = "load." + RUN_ID + "." + sequence.incrementAndGet() + "@example.com";
+        createdEmails.add(email);
+        Student student = randomStudent(email);
+        return () -> {
+            DriverManager.getDriver().get(Config.appUrl());
+            FormStudentModal modal = new HomePage()
+                    .navigateToStudentsManagementPage()
+                    .navigateToAddStudentPage();
+            modal.fillStudentForm(student);
+            modal.clickSubmit();
+            modal.waitForSuccessMessage();
+            expectSuccess(modal.snapshot(), "add by user " + user);
+        };
+    }
+
+    // Sinh viên cần sửa được tạo qua API ngay tại đây, trước khi bấm giờ, để các người dùng không sửa chồng lên nhau
+    private Runnable editFlow(int user) {
+        String email = "load." + RUN_ID + ".edit." + sequence.incrementAndGet() + "@example.com";
+        long studentId = fixture.seedStudent(randomStudent(email));
+        String lastName = letters(8);
+        return () -> {
+            DriverManager.getDriver().get(Config.appUrl());
+            FormStudentModal modal = new HomePage()
+                    .navigateToStudentsManagementPage()
+                    .navigateToEditStudentPage(studentId, email);
+            modal.enterLastName(lastName);
+            modal.clickUpdate();
+            modal.waitForSuccessMessage();
+            expectSuccess(modal.snapshot(), "edit by user " + user);
+        };
+    }
+
+    private static void expectSuccess(FormSnapshot result, String flow) {
+        if (!"Success!".equals(result.alertTitle()) || result.modalVisible()) {
+            throw new IllegalStateException(flow + " ended with alert '" + result.alertTitle() + "', modal visible: " + result.modalVisible());
+        }
+    }
+
+    private static Student randomStudent(String email) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String phone = "09" + String.format("%08d", random.nextInt(100_000_000));
+        String date = String.format("2025-%02d-%02d", random.nextInt(1, 13), random.nextInt(1, 29));
+        return Student.of(letters(6), letters(6), String.valueOf(random.nextInt(18, 40)),
+                GENDERS[random.nextInt(GENDERS.length)], email, phone, COURSE, date);
+    }
+
+    private static String letters(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder out = new StringBuilder().append((char) ('A' + random.nextInt(26)));
+        for (int i = 1; i < length; i++) {
+            out.append((char) ('a' + random.nextInt(26)));
+        }
+        return out.toString();
+    }
+
+    private void error(String kind) {
+        errorKinds.computeIfAbsent(kind, key -> new LongAdder()).increment();
+    }
+
+    private static boolean sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void progress(long start) {
+        while (sleepUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(10))) {
+            long done = stats.values().stream().mapToLong(s -> s.latency.count()).sum();
+            long failed = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+            System.out.printf("[load] %4d s: %d active users, %d flows done, %d errors%n",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), active.get(), done, failed);
+        }
+    }
+
+    // Mỗi người dùng không mở được browser tính như một luồng lỗi; không có gì chạy được thì là 100%
+    private double errorRate() {
+        long done = stats.values().stream().mapToLong(s -> s.latency.count()).sum();
+        long failed = stats.values().stream().mapToLong(s -> s.errors.sum()).sum() + sessionFailures.sum();
+        return done + failed == 0 ? 1 : failed / (double) (done + failed);
+    }
+
+    private Map<String, Object> summary(long elapsedNanos, long steadyNanos) {
+        Map<String, Object> flows = new LinkedHashMap<>();
+        stats.forEach((flow, flowStats) -> {
+            long completed = flowStats.latency.count();
+            long errors = flowStats.errors.sum();
+            Map<String, Object> row = new LinkedHashMap<>(flowStats.latency.summary());
+            row.put("errors", errors);
+            row.put("errorRate", completed + errors == 0 ? 0.0 : errors / (double) (completed + errors));
+            row.put("flowsPerSecond", completed / seconds(elapsedNanos));
+            row.put("steadyFlowsPerSecond", flowStats.steadyCompleted.sum() / seconds(steadyNanos));
+            flows.put(flow.name().toLowerCase(), row);
+        });
+        Map<String, Object> errors = new LinkedHashMap<>();
+        errorKinds.forEach((kind, count) -> errors.put(kind, count.sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("users", users);
+        summary.put("rampUpSeconds", rampUp.toSeconds());
+        summary.put("durationSeconds", duration.toSeconds());
+        summary.put("elapsedSeconds", seconds(elapsedNanos));
+        summary.put("errorRate", errorRate());
+        summary.put("sessionFailures", sessionFailures.sum());
+        summary.put("flows", flows);
+        summary.put("errors", errors);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String report(long elapsedNanos, long steadyNanos) {
+        Map<String, Object> summary = summary(elapsedNanos, steadyNanos);
+        StringBuilder out = new StringBuilder(String.format("%n[load] %d users over %.0f s, error rate %.2f%% (%d users could not start a browser)%n%-6s %9s %7s %9s %11s %9s %9s %9s %9s%n",
+                users, seconds(elapsedNanos), errorRate() * 100, sessionFailures.sum(),
+                "flow", "done", "errors", "flows/s", "steady/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        ((Map<String, Map<String, Object>>) summary.get("flows")).forEach((flow, row) -> out.append(String.format(
+                "%-6s %9d %7d %9.2f %11.2f %9.1f %9.1f %9.1f %9.1f%n", flow, (Long) row.get("count"), (Long) row.get("errors"),
+                (Double) row.get("flowsPerSecond"), (Double) row.get("steadyFlowsPerSecond"),
+                (Double) row.get("p50Ms"), (Double) row.get("p95Ms"), (Double) row.get("p99Ms"), (Double) row.get("maxMs"))));
+        ((Map<String, Object>) summary.get("errors")).forEach((kind, count) -> out.append(String.format("  %-60s %d%n", kind, (Long) count)));
+        return out.toString();
+    }
+
+    private void writeJson(Path file, long elapsedNanos, long steadyNanos) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, new Json().toJson(summary(elapsedNanos, steadyNanos)), StandardCharsets.UTF_8);
+        System.out.println("Load report: " + file.toAbsolutePath());
+    }
+
+    // -Dload.cleanup=false để giữ lại các sinh viên đã tạo (vd. để xem app với nhiều dữ liệu)
+    private void cleanup() {
+        if (!Config.getBoolean("load.cleanup", true)) {
+            return;
+        }
+        fixture.cleanup();
+        createdEmails.forEach(email -> fixture.deleteStudentsByEmail(email, lastStudentIdBefore));
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,98 @@
+package runner;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import utils.Config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Xếp method lâu nhất chạy trước (LPT) theo DurationHistory, để các slot song song xong gần cùng lúc
+// thay vì một method chậm bị xếp cuối kéo dài cả lần chạy. Sau mỗi suite cập nhật lại lịch sử.
+// Đăng ký qua META-INF/services/org.testng.ITestNGListener; tắt bằng -Dhistory.ordering=false
+public class LongestFirstInterceptor implements IMethodInterceptor, ITestListener, ISuiteListener {
+    private static volatile DurationHistory history;
+
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static DurationHistory history() {
+        if (history == null) {
+            synchronized (LongestFirstInterceptor.class) {
+                if (history == null) {
+                    history = DurationHistory.load();
+                }
+            }
+        }
+        return history;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!Config.getBoolean("history.ordering", true) || history().isEmpty()) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance m) -> history().estimateOrLongest(key(m.getMethod()))).reversed());
+
+        int slots = context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.NONE
+                ? 1 : Math.max(1, context.getCurrentXmlTest().getThreadCount());
+        if (Config.getBoolean("history.verbose", false)) {
+            System.out.printf("[history] %d methods on %d slots, predicted makespan %d ms%n",
+                    ordered.size(), slots, makespan(ordered, slots));
+        }
+        return ordered;
+    }
+
+    // Mô phỏng lịch LPT: mỗi method vào slot đang rảnh sớm nhất
+    private static long makespan(List<IMethodInstance> ordered, int slots) {
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < slots; i++) {
+            loads.add(0L);
+        }
+        for (IMethodInstance method : ordered) {
+            loads.add(loads.poll() + history().estimateOrLongest(key(method.getMethod())));
+        }
+        return loads.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        add(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        add(result);
+    }
+
+    // Các lần chạy của data provider được cộng dồn thành thời gian của cả method
+    private void add(ITestResult result) {
+        durations.merge(key(result.getMethod()), result.getEndMillis() - result.getStartMillis(), Long::sum);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        // Trong worker của WorkStealingRunner, coordinator là nơi duy nhất ghi file lịch sử
+        if (durations.isEmpty() || Config.get("runner.worker", null) != null) {
+            return;
+        }
+        durations.forEach(history()::record);
+        durations.clear();
+        history().save();
+    }
+}
@@ -0,0 +1,187 @@
+package runner;
+
+import base.CommandMetrics;
+import base.LatencyProbes;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Sau mỗi lần chạy: ghi p50/p95/max của từng test method (mọi lần chạy của data provider), của các lệnh WebDriver
+// theo method page object gọi tới (chiều "caller" của CommandMetrics) và độ trễ trong trang của từng tương tác
+// (LatencyProbes) vào PerfStore, rồi so p95 lần này với trung vị p95 của các lần chạy trước.
+// Chậm hơn -Dperf.threshold (mặc định 25%) và hơn -Dperf.minDeltaMs thì báo; -Dperf.gate=fail để làm fail lần chạy,
+// warn (mặc định) chỉ in ra, off để chỉ ghi lịch sử. -Dperf=false để tắt hẳn.
+// Với WorkStealingRunner mỗi item là một TestNG riêng trong worker nên ở đó listener này không ghi gì: thời gian test
+// về coordinator qua các message "result" (p95 tính trên mọi lần chạy của method trong cả lần chạy), số liệu lệnh và
+// tương tác được ghi một lần khi JVM worker thoát (Worker.main), coordinator ghi phần test rồi so sánh
+public class PerfGate implements ITestListener, IExecutionListener {
+    static final String RUN_ID = Config.get("artifacts.runId",
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+    private static final long STARTED = System.currentTimeMillis();
+
+    public record Regression(PerfStore.Kind kind, String key, double baselineP95Millis, double currentP95Millis, int baselineRuns) {
+        double ratio() {
+            return currentP95Millis / baselineP95Millis;
+        }
+    }
+
+    private final Map<String, LatencyHistogram> tests = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        add(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        add(result);
+    }
+
+    private void add(ITestResult result) {
+        record(LongestFirstInterceptor.key(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+    }
+
+    // Coordinator: kết quả một lần chạy do worker gửi về (name có thể kèm tham số của data provider)
+    void add(TestOutcome outcome) {
+        if (outcome.status() != TestOutcome.Status.SKIPPED) {
+            int parameters = outcome.name().indexOf('(');
+            record(outcome.className() + "#" + (parameters < 0 ? outcome.name() : outcome.name().substring(0, parameters)),
+                    outcome.durationMillis());
+        }
+    }
+
+    private void record(String key, long millis) {
+        tests.computeIfAbsent(key, k -> new LatencyHistogram()).record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (!Config.getBoolean("perf", true) || Config.get("runner.worker", null) != null) {
+            return;
+        }
+        List<PerfStore.Sample> samples = testSamples();
+        samples.addAll(jvmSamples());
+        PerfStore.open().append(samples);
+        if (gate(RUN_ID)) {
+            throw new AssertionError("Performance regressions above the -Dperf.threshold, see the [perf] report above");
+        }
+    }
+
+    // Coordinator gọi trước gate(): p95 của từng test method trên mọi kết quả đã nhận
+    void appendTests() {
+        if (Config.getBoolean("perf", true)) {
+            PerfStore.open().append(testSamples());
+        }
+    }
+
+    // Worker gọi một lần khi thoát: số liệu lệnh và tương tác của cả JVM
+    static void appendJvm() {
+        if (Config.getBoolean("perf", true)) {
+            PerfStore.open().append(jvmSamples());
+        }
+    }
+
+    private List<PerfStore.Sample> testSamples() {
+        List<PerfStore.Sample> samples = new ArrayList<>();
+        tests.forEach((key, histogram) -> samples.add(new PerfStore.Sample(PerfStore.Kind.TEST, RUN_ID, STARTED, key,
+                histogram.count(), histogram.percentileMillis(50), histogram.percentileMillis(95), histogram.maxMillis())));
+        return samples;
+    }
+
+    private static List<PerfStore.Sample> jvmSamples() {
+        List<PerfStore.Sample> samples = new ArrayList<>();
+        CommandMetrics.snapshot().getOrDefault("caller", Map.of()).forEach((key, summary) ->
+                samples.add(new PerfStore.Sample(PerfStore.Kind.PAGE_METHOD, RUN_ID, STARTED, key,
+                        (Long) summary.get("count"), (Double) summary.get("p50Ms"), (Double) summary.get("p95Ms"),
+                        (Double) summary.get("maxMs"))));
+        LatencyProbes.snapshot().forEach((key, summary) -> {
+            if (((Number) summary.get("count")).longValue() > 0) {
+                samples.add(new PerfStore.Sample(PerfStore.Kind.INTERACTION, RUN_ID, STARTED, key,
+                        (Long) summary.get("count"), (Double) summary.get("p50Ms"), (Double) summary.get("p95Ms"),
+                        (Double) summary.get("maxMs")));
+            }
+        });
+        return samples;
+    }
+
+    // In các regression của runId so với lịch sử; true nếu -Dperf.gate=fail và có regression
+    public static boolean gate(String runId) {
+        String mode = Config.get("perf.gate", "warn");
+        if ("off".equalsIgnoreCase(mode) || !Config.getBoolean("perf", true)) {
+            return false;
+        }
+        List<Regression> regressions = regressions(PerfStore.open().read(), runId);
+        if (regressions.isEmpty()) {
+            return false;
+        }
+        StringBuilder out = new StringBuilder(String.format("%n[perf] p95 regressions in run %s%n%-14s %-60s %12s %12s %7s%n",
+                runId, "kind", "name", "baseline ms", "now ms", "ratio"));
+        regressions.forEach(r -> out.append(String.format("%-14s %-60s %12.1f %12.1f %6.2fx%n", r.kind(),
+                r.key().length() > 60 ? r.key().substring(0, 57) + "..." : r.key(),
+                r.baselineP95Millis(), r.currentP95Millis(), r.ratio())));
+        System.out.println(out);
+        return "fail".equalsIgnoreCase(mode);
+    }
+
+    static List<Regression> regressions(List<PerfStore.Sample> samples, String runId) {
+        double threshold = Double.parseDouble(Config.get("perf.threshold", "0.25"));
+        double minDelta = Config.getLong("perf.minDeltaMs", 100);
+        int baselineRuns = Config.getInt("perf.baselineRuns", 10);
+        int minRuns = Config.getInt("perf.minRuns", 3);
+
+        // kind|key -> runId -> {tổng p95 x count, tổng count}, theo thứ tự ghi. Test chỉ có một bản ghi mỗi lần chạy;
+        // lệnh và tương tác có một bản ghi cho mỗi worker, gộp bằng trung bình p95 theo số lần đo
+        Map<String, Map<String, double[]>> series = new LinkedHashMap<>();
+        for (PerfStore.Sample sample : samples) {
+            double[] run = series.computeIfAbsent(sample.kind() + "|" + sample.key(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(sample.runId(), k -> new double[2]);
+            long count = Math.max(1, sample.count());
+            run[0] += sample.p95Millis() * count;
+            run[1] += count;
+        }
+        List<Regression> regressions = new ArrayList<>();
+        series.forEach((id, runs) -> {
+            double[] now = runs.get(runId);
+            if (now == null) {
+                return;
+            }
+            double current = now[0] / now[1];
+            List<Double> previous = new ArrayList<>();
+            runs.forEach((run, p95) -> {
+                if (!run.equals(runId)) {
+                    previous.add(p95[0] / p95[1]);
+                }
+            });
+            List<Double> window = previous.subList(Math.max(0, previous.size() - baselineRuns), previous.size());
+            if (window.size() < minRuns) {
+                return;
+            }
+            double baseline = median(window);
+            if (current > baseline * (1 + threshold) && current - baseline >= minDelta) {
+                int separator = id.indexOf('|');
+                regressions.add(new Regression(PerfStore.Kind.valueOf(id.substring(0, separator)), id.substring(separator + 1),
+                        baseline, current, window.size()));
+            }
+        });
+        regressions.sort(Comparator.comparingDouble(Regression::ratio).reversed());
+        return regressions;
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+}
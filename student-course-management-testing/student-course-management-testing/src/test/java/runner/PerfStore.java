@@ -0,0 +1,189 @@
+package runner;
+
+import utils.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Lịch sử thời gian chạy dạng nhị phân, chỉ ghi nối vào cuối: mỗi lần chạy thêm một bản ghi cho từng test
+// và từng method page object (p50/p95/max). Đọc lại bằng memory mapping, không parse text.
+// Mỗi bản ghi: int độ dài | byte kind | long thời điểm | int count | double p50, p95, max (ms) | runId | key
+// (chuỗi là short độ dài + UTF-8). Bản ghi cuối bị cắt dở (lần chạy bị ngắt khi đang ghi) được bỏ qua khi đọc.
+// Nhiều worker của WorkStealingRunner cùng ghi một file nên mỗi lần ghi giữ khóa trên file .lock bên cạnh, không phải
+// trên chính file dữ liệu: lúc nén, file mới được đổi tên đè lên file cũ, ai chờ khóa trên inode cũ sẽ ghi vào file đã mất
+public final class PerfStore {
+    private static final int MAGIC = 0x50455246; // "PERF"
+    private static final short VERSION = 1;
+    private static final int HEADER = Integer.BYTES + Short.BYTES;
+
+    public enum Kind {
+        TEST, PAGE_METHOD, INTERACTION
+    }
+
+    public record Sample(Kind kind, String runId, long timestamp, String key, long count,
+                         double p50Millis, double p95Millis, double maxMillis) {
+    }
+
+    private final Path file;
+    private final Path lockFile;
+
+    private PerfStore(Path file) {
+        this.file = file;
+        this.lockFile = file.resolveSibling(file.getFileName() + ".lock");
+    }
+
+    // -Dperf.file=... ; mặc định .test-history/perf.bin, cạnh durations.properties của DurationHistory
+    public static PerfStore open() {
+        return new PerfStore(Path.of(Config.get("perf.file", ".test-history/perf.bin")));
+    }
+
+    public void append(List<Sample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    // Mở file dữ liệu sau khi có khóa: nếu vừa bị nén thì đây đã là file mới
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                        channel.position(channel.size());
+                        if (channel.size() == 0) {
+                            channel.write(ByteBuffer.allocate(HEADER).putInt(MAGIC).putShort(VERSION).flip());
+                        }
+                        channel.write(encode(samples));
+                    }
+                    // Chỉ coordinator nén, để worker không phải đọc lại cả file sau mỗi lần ghi
+                    if (Config.get("runner.worker", null) == null) {
+                        compactIfNeeded();
+                    }
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Sample> read() {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER) {
+                return List.of();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                System.err.println("[perf] " + file + " is not a perf store (or an older version), ignoring it");
+                return List.of();
+            }
+            return decode(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer encode(List<Sample> samples) {
+        List<byte[]> encoded = new ArrayList<>();
+        int total = 0;
+        for (Sample sample : samples) {
+            byte[] runId = utf8(sample.runId());
+            byte[] key = utf8(sample.key());
+            int length = 1 + Long.BYTES + Integer.BYTES + 3 * Double.BYTES + 2 * Short.BYTES + runId.length + key.length;
+            ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length)
+                    .putInt(length)
+                    .put((byte) sample.kind().ordinal())
+                    .putLong(sample.timestamp())
+                    .putInt((int) Math.min(Integer.MAX_VALUE, sample.count()))
+                    .putDouble(sample.p50Millis())
+                    .putDouble(sample.p95Millis())
+                    .putDouble(sample.maxMillis())
+                    .putShort((short) runId.length).put(runId)
+                    .putShort((short) key.length).put(key);
+            encoded.add(record.array());
+            total += record.capacity();
+        }
+        // Cả lần chạy trong một lần write để các worker không ghi xen vào nhau
+        ByteBuffer out = ByteBuffer.allocate(total);
+        encoded.forEach(out::put);
+        return out.flip();
+    }
+
+    private static List<Sample> decode(ByteBuffer buffer) {
+        List<Sample> samples = new ArrayList<>();
+        Kind[] kinds = Kind.values();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer record = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            int kind = record.get();
+            long timestamp = record.getLong();
+            long count = record.getInt();
+            double p50 = record.getDouble();
+            double p95 = record.getDouble();
+            double max = record.getDouble();
+            String runId = string(record);
+            String key = string(record);
+            if (kind >= 0 && kind < kinds.length) {
+                samples.add(new Sample(kinds[kind], runId, timestamp, key, count, p50, p95, max));
+            }
+        }
+        return samples;
+    }
+
+    // -Dperf.maxBytes (mặc định 8 MB): vượt quá thì chỉ giữ -Dperf.keepRuns lần chạy gần nhất. Gọi khi đang giữ khóa
+    private void compactIfNeeded() throws IOException {
+        if (Files.size(file) <= Config.getLong("perf.maxBytes", 8L * 1024 * 1024)) {
+            return;
+        }
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "perf", ".tmp");
+        try {
+            List<Sample> samples = read();
+            Set<String> runs = new LinkedHashSet<>();
+            samples.forEach(sample -> runs.add(sample.runId()));
+            List<String> ordered = new ArrayList<>(runs);
+            Set<String> keep = Set.copyOf(ordered.subList(Math.max(0, ordered.size() - Config.getInt("perf.keepRuns", 50)), ordered.size()));
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                out.write(ByteBuffer.allocate(HEADER).putInt(MAGIC).putShort(VERSION).flip());
+                out.write(encode(samples.stream().filter(sample -> keep.contains(sample.runId())).toList()));
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static byte[] utf8(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Perf store key too long: " + text.substring(0, 80) + "...");
+        }
+        return bytes;
+    }
+
+    private static String string(ByteBuffer record) {
+        byte[] bytes = new byte[record.getShort()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
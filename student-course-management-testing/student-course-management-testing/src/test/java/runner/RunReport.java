@@ -0,0 +1,76 @@
+package runner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Gộp kết quả từ mọi worker thành một file JUnit XML (đọc được bởi CI) và một bảng tóm tắt
+class RunReport {
+    private final List<TestOutcome> outcomes = new ArrayList<>();
+    private final Map<Integer, int[]> perWorker = new TreeMap<>();
+    private final long startMillis = System.currentTimeMillis();
+
+    synchronized void add(TestOutcome outcome) {
+        outcomes.add(outcome);
+        perWorker.computeIfAbsent(outcome.worker(), key -> new int[1])[0]++;
+    }
+
+    synchronized long count(TestOutcome.Status status) {
+        return outcomes.stream().filter(outcome -> outcome.status() == status).count();
+    }
+
+    synchronized void writeJUnitXml(Path file) {
+        List<TestOutcome> sorted = new ArrayList<>(outcomes);
+        sorted.sort(Comparator.comparing(TestOutcome::className).thenComparing(TestOutcome::name));
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append(String.format(Locale.ROOT, "<testsuite name=\"work-stealing\" tests=\"%d\" failures=\"%d\" skipped=\"%d\" time=\"%.3f\">%n",
+                sorted.size(), count(TestOutcome.Status.FAILED), count(TestOutcome.Status.SKIPPED),
+                (System.currentTimeMillis() - startMillis) / 1000.0));
+        for (TestOutcome outcome : sorted) {
+            xml.append(String.format(Locale.ROOT, "  <testcase classname=\"%s\" name=\"%s\" time=\"%.3f\">",
+                    escape(outcome.className()), escape(outcome.name()), outcome.durationMillis() / 1000.0));
+            switch (outcome.status()) {
+                case FAILED -> xml.append("\n    <failure message=\"").append(escape(outcome.message())).append("\">")
+                        .append(escape(outcome.stackTrace())).append("</failure>\n  ");
+                case SKIPPED -> xml.append("\n    <skipped message=\"").append(escape(outcome.message())).append("\"/>\n  ");
+                default -> {
+                }
+            }
+            xml.append(String.format("<system-out>worker-%d</system-out></testcase>%n", outcome.worker()));
+        }
+        xml.append("</testsuite>\n");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, xml, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized String summary(int steals) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%nTests: %d, passed: %d, failed: %d, skipped: %d, steals: %d, wall time: %.1f s%n",
+                outcomes.size(), count(TestOutcome.Status.PASSED), count(TestOutcome.Status.FAILED),
+                count(TestOutcome.Status.SKIPPED), steals, (System.currentTimeMillis() - startMillis) / 1000.0));
+        perWorker.forEach((worker, count) -> out.append(String.format("  worker-%d: %d tests%n", worker, count[0])));
+        outcomes.stream()
+                .filter(outcome -> outcome.status() == TestOutcome.Status.FAILED)
+                .forEach(outcome -> out.append(String.format("  FAILED %s.%s: %s%n", outcome.className(), outcome.name(), outcome.message())));
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,32 @@
+package runner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Kết quả của một lần chạy test trong worker, gửi về coordinator để gộp vào một báo cáo
+public record TestOutcome(String itemId, int worker, String className, String name, Status status,
+                          long durationMillis, String message, String stackTrace) {
+
+    public enum Status { PASSED, FAILED, SKIPPED }
+
+    Map<String, Object> toMessage() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("type", "result");
+        json.put("itemId", itemId);
+        json.put("worker", worker);
+        json.put("className", className);
+        json.put("name", name);
+        json.put("status", status.name());
+        json.put("durationMillis", durationMillis);
+        json.put("message", message);
+        json.put("stackTrace", stackTrace);
+        return json;
+    }
+
+    static TestOutcome fromMessage(Map<String, Object> message) {
+        return new TestOutcome((String) message.get("itemId"), ((Number) message.get("worker")).intValue(),
+                (String) message.get("className"), (String) message.get("name"),
+                Status.valueOf((String) message.get("status")), ((Number) message.get("durationMillis")).longValue(),
+                (String) message.get("message"), (String) message.get("stackTrace"));
+    }
+}
@@ -0,0 +1,118 @@
+package runner;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Tìm các test method và tách từng dòng data provider thành một WorkItem riêng,
+// để một class nhiều case như AddFormTest được chia ra nhiều worker
+class TestPlan {
+
+    private TestPlan() {
+    }
+
+    // -Drunner.classes=tests.students.AddFormTest,... ; mặc định quét mọi *Test trong package tests
+    static List<String> discoverClasses(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return Arrays.stream(configured.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList();
+        }
+        List<String> classes = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path root = Path.of(entry);
+            Path tests = root.resolve("tests");
+            if (!Files.isDirectory(tests)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(tests)) {
+                files.map(root::relativize)
+                        .map(Path::toString)
+                        .filter(name -> name.endsWith("Test.class") && !name.contains("$"))
+                        .map(name -> name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'))
+                        .forEach(classes::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        classes.sort(Comparator.naturalOrder());
+        return classes;
+    }
+
+    static List<WorkItem> plan(List<String> classNames, boolean splitDataProviders) {
+        List<WorkItem> items = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> testClass = load(className);
+            Arrays.stream(testClass.getMethods())
+                    .filter(method -> method.isAnnotationPresent(Test.class) && method.getAnnotation(Test.class).enabled())
+                    .sorted(Comparator.comparing(Method::getName))
+                    .forEach(method -> {
+                        int rows = splitDataProviders ? countRows(testClass, method) : -1;
+                        if (rows < 0) {
+                            items.add(WorkItem.of(className, method.getName(), -1));
+                        }
+                        for (int row = 0; row < rows; row++) {
+                            items.add(WorkItem.of(className, method.getName(), row));
+                        }
+                    });
+        }
+        return items;
+    }
+
+    // Gọi thử data provider để đếm số dòng; -1 nếu method không dùng data provider hoặc không gọi được
+    private static int countRows(Class<?> testClass, Method testMethod) {
+        Test test = testMethod.getAnnotation(Test.class);
+        if (test.dataProvider().isEmpty()) {
+            return -1;
+        }
+        Class<?> owner = test.dataProviderClass() == Object.class ? testClass : test.dataProviderClass();
+        Method provider = Arrays.stream(owner.getMethods())
+                .filter(method -> method.isAnnotationPresent(DataProvider.class))
+                .filter(method -> {
+                    String name = method.getAnnotation(DataProvider.class).name();
+                    return (name.isEmpty() ? method.getName() : name).equals(test.dataProvider());
+                })
+                .findFirst()
+                .orElse(null);
+        if (provider == null || provider.getParameterCount() > 0) {
+            return -1;
+        }
+        try {
+            Object target = Modifier.isStatic(provider.getModifiers()) ? null : owner.getDeclaredConstructor().newInstance();
+            Object rows = provider.invoke(target);
+            if (rows instanceof Object[][] array) {
+                return array.length;
+            }
+            if (rows instanceof Iterator<?> iterator) {
+                int count = 0;
+                for (; iterator.hasNext(); iterator.next()) {
+                    count++;
+                }
+                return count;
+            }
+            return -1;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            System.err.println("Cannot expand data provider " + test.dataProvider() + " of " + testClass.getName() + ": " + e);
+            return -1;
+        }
+    }
+
+    private static Class<?> load(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Test class not found on classpath: " + className, e);
+        }
+    }
+}
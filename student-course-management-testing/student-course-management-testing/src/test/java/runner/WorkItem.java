@@ -0,0 +1,32 @@
+package runner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Một đơn vị việc giao cho worker: một test method, hoặc một dòng của data provider (invocation >= 0)
+public record WorkItem(String id, String className, String method, int invocation) {
+
+    public static WorkItem of(String className, String method, int invocation) {
+        String id = className + "#" + method + (invocation >= 0 ? "[" + invocation + "]" : "");
+        return new WorkItem(id, className, method, invocation);
+    }
+
+    public boolean isSingleInvocation() {
+        return invocation >= 0;
+    }
+
+    Map<String, Object> toMessage(String type) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("id", id);
+        message.put("className", className);
+        message.put("method", method);
+        message.put("invocation", invocation);
+        return message;
+    }
+
+    static WorkItem fromMessage(Map<String, Object> message) {
+        return new WorkItem((String) message.get("id"), (String) message.get("className"),
+                (String) message.get("method"), ((Number) message.get("invocation")).intValue());
+    }
+}
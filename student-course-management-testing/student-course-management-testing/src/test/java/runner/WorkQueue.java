@@ -0,0 +1,139 @@
+package runner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+// Mỗi worker một deque: ban đầu chia liền khối theo thứ tự (giữ các item cùng class ở cùng worker) hoặc theo LPT,
+// worker lấy việc ở đầu deque của mình; hết việc thì lấy trộm ở cuối deque đang dài nhất.
+// Hàng đợi chỉ coi là hết khi không còn item nào chờ lẫn đang chạy: item của worker chết có thể còn quay lại.
+// Khóa bằng ReentrantLock vì coordinator chờ ở đây từ virtual thread
+class WorkQueue {
+    private final List<Deque<WorkItem>> deques = new ArrayList<>();
+    private final Set<String> inFlight = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private int steals;
+
+    WorkQueue(List<WorkItem> items, int workers) {
+        this(workers);
+        int chunk = (items.size() + workers - 1) / Math.max(1, workers);
+        for (int i = 0; i < items.size(); i++) {
+            deques.get(Math.min(workers - 1, i / Math.max(1, chunk))).addLast(items.get(i));
+        }
+    }
+
+    private WorkQueue(int workers) {
+        for (int i = 0; i < workers; i++) {
+            deques.add(new ArrayDeque<>());
+        }
+    }
+
+    // Có lịch sử thời gian: LPT - item lâu nhất trước, mỗi item vào deque đang có tổng thời gian dự kiến nhỏ nhất.
+    // Deque vẫn theo thứ tự lâu trước, nên việc bị lấy trộm ở cuối là các item ngắn
+    static WorkQueue longestFirst(List<WorkItem> items, int workers, ToLongFunction<WorkItem> estimate) {
+        WorkQueue queue = new WorkQueue(workers);
+        long[] loads = new long[workers];
+        items.stream()
+                .sorted(Comparator.comparingLong(estimate).reversed())
+                .forEach(item -> {
+                    int target = 0;
+                    for (int i = 1; i < workers; i++) {
+                        if (loads[i] < loads[target]) {
+                            target = i;
+                        }
+                    }
+                    loads[target] += estimate.applyAsLong(item);
+                    queue.deques.get(target).addLast(item);
+                });
+        return queue;
+    }
+
+    // Item kế tiếp cho worker; hết item chờ mà worker khác còn đang chạy thì đợi, vì item đó có thể được trả lại.
+    // null chỉ khi không còn gì chờ và không còn gì đang chạy
+    WorkItem next(int worker) throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                WorkItem item = poll(worker);
+                if (item != null) {
+                    inFlight.add(item.id());
+                    return item;
+                }
+                if (inFlight.isEmpty()) {
+                    return null;
+                }
+                changed.await(1, TimeUnit.SECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private WorkItem poll(int worker) {
+        WorkItem own = deques.get(worker).pollFirst();
+        if (own != null) {
+            return own;
+        }
+        Deque<WorkItem> victim = deques.stream().max(Comparator.comparingInt(Deque::size)).orElseThrow();
+        WorkItem stolen = victim.pollLast();
+        if (stolen != null) {
+            steals++;
+        }
+        return stolen;
+    }
+
+    // Item đã chạy xong (kể cả lỗi, hoặc đã báo lỗi vì worker chết hai lần)
+    void complete(WorkItem item) {
+        lock.lock();
+        try {
+            inFlight.remove(item.id());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Item của worker bị chết được trả lại cho worker đang rảnh nhất
+    void requeue(WorkItem item) {
+        lock.lock();
+        try {
+            deques.stream().min(Comparator.comparingInt(Deque::size)).orElseThrow().addFirst(item);
+            inFlight.remove(item.id());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<WorkItem> drain() {
+        lock.lock();
+        try {
+            List<WorkItem> left = new ArrayList<>();
+            deques.forEach(deque -> {
+                left.addAll(deque);
+                deque.clear();
+            });
+            return left;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int steals() {
+        lock.lock();
+        try {
+            return steals;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package runner;
+
+import utils.Config;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Coordinator: fork N JVM worker, chia test method (từng dòng data provider) qua socket localhost theo kiểu
+// work stealing để mọi worker bận tới cuối, rồi gộp kết quả thành một báo cáo.
+// Chạy: mvn -Prunner verify -Drunner.workers=4 [-Drunner.jvmArgs="-Dstandin=true -Ddriver.profile=headless"]
+public class WorkStealingRunner {
+    private static final List<String> JVM_PROPERTY_PREFIXES = List.of(
+            "java.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "native.", "stdout.", "stderr.", "runner.worker", "runner.port");
+
+    private static final String RUN_ID = Config.get("artifacts.runId",
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+    private final int workers;
+    private final Path reportDir;
+    private final WorkQueue queue;
+    private final DurationHistory history;
+    private final RunReport report = new RunReport();
+    private final PerfGate perf = new PerfGate();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final Set<String> finished = ConcurrentHashMap.newKeySet();
+    private final List<Thread> sessions = new CopyOnWriteArrayList<>();
+
+    private WorkStealingRunner(int workers, Path reportDir, List<WorkItem> items, DurationHistory history) {
+        this.workers = workers;
+        this.reportDir = reportDir;
+        this.history = history;
+        this.queue = history.isEmpty() || !Config.getBoolean("history.ordering", true)
+                ? new WorkQueue(items, workers)
+                : WorkQueue.longestFirst(items, workers, item -> history.estimateOrLongest(item.id()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int workers = Math.max(1, Config.getInt("runner.workers", Runtime.getRuntime().availableProcessors() / 2));
+        List<WorkItem> items = TestPlan.plan(TestPlan.discoverClasses(Config.get("runner.classes", null)),
+                Config.getBoolean("runner.splitDataProviders", true));
+        System.out.println("Planned " + items.size() + " work items for " + workers + " workers");
+
+        WorkStealingRunner runner = new WorkStealingRunner(workers, Path.of(Config.get("runner.reportDir", "target/runner")),
+                items, DurationHistory.load());
+        boolean failed = runner.run();
+        System.exit(failed ? 1 : 0);
+    }
+
+    private boolean run() throws Exception {
+        Files.createDirectories(reportDir);
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            Thread.ofVirtual().name("runner-accept").start(() -> accept(server));
+
+            List<Process> processes = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                processes.add(fork(worker, server.getLocalPort()));
+            }
+            for (Process process : processes) {
+                process.waitFor();
+            }
+            // Session của worker cuối cùng có thể chưa xử lý xong EOF (trả item về hàng đợi) khi process đã thoát
+            for (Thread session : sessions) {
+                session.join();
+            }
+        }
+        // Còn việc mà không còn worker nào (vd. mọi worker đều chết lúc khởi động)
+        for (WorkItem item : queue.drain()) {
+            report.add(new TestOutcome(item.id(), -1, item.className(), item.method(), TestOutcome.Status.SKIPPED,
+                    0, "Not run: no worker left", null));
+        }
+
+        history.save();
+        report.writeJUnitXml(reportDir.resolve("TEST-work-stealing.xml"));
+        System.out.println(report.summary(queue.steals()));
+        // Worker đã ghi số liệu lệnh/tương tác vào PerfStore với cùng RUN_ID, thêm thời gian test rồi so với lịch sử
+        perf.appendTests();
+        boolean regressed = PerfGate.gate(RUN_ID);
+        return regressed || report.count(TestOutcome.Status.FAILED) > 0 || report.count(TestOutcome.Status.SKIPPED) > 0;
+    }
+
+    private Process fork(int worker, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith))
+                .sorted()
+                .forEach(key -> command.add("-D" + key + "=" + System.getProperty(key)));
+        // Mỗi worker chỉ chạy một item một lúc nên một browser là đủ, trừ khi được chỉ định khác
+        if (System.getProperty("pool.size") == null) {
+            command.add("-Dpool.size=1");
+        }
+        // Các worker ghi artifact lỗi chung một thư mục và chia nhau ngân sách dung lượng của lần chạy
+        command.add("-Dartifacts.runId=" + RUN_ID);
+        command.add("-Dartifacts.budgetShare=" + workers);
+        command.add("-Drunner.worker=" + worker);
+        command.add("-Drunner.port=" + port);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Worker.class.getName());
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(reportDir.resolve("worker-" + worker + ".log").toFile())
+                .start();
+    }
+
+    private void accept(ServerSocket server) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                sessions.add(Thread.ofVirtual().name("runner-session").start(() -> serve(socket)));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        WorkItem current = null;
+        int worker = -1;
+        try (Channel channel = new Channel(socket)) {
+            for (Map<String, Object> message = channel.receive(); message != null; message = channel.receive()) {
+                switch ((String) message.get("type")) {
+                    case "hello" -> worker = ((Number) message.get("worker")).intValue();
+                    case "next" -> {
+                        // Chờ tới khi có item hoặc không còn item nào đang chạy ở worker khác
+                        current = queue.next(worker);
+                        if (current == null) {
+                            channel.send(Map.of("type", "done"));
+                        } else {
+                            WorkItem offered = current;
+                            try {
+                                channel.send(offered.toMessage("run"));
+                            } catch (IOException e) {
+                                // Worker đã thoát trong lúc chờ: item chưa chạy, trả lại mà không tính là một lần thử
+                                current = null;
+                                queue.requeue(offered);
+                                throw e;
+                            }
+                        }
+                    }
+                    case "result" -> {
+                        TestOutcome outcome = TestOutcome.fromMessage(message);
+                        report.add(outcome);
+                        perf.add(outcome);
+                    }
+                    case "finished" -> {
+                        finished.add((String) message.get("itemId"));
+                        history.record((String) message.get("itemId"), ((Number) message.get("durationMillis")).longValue());
+                        if (current != null) {
+                            queue.complete(current);
+                        }
+                        current = null;
+                    }
+                    default -> System.err.println("Unknown message from worker-" + worker + ": " + message);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Lost connection to worker-" + worker + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current != null) {
+            if (finished.contains(current.id())) {
+                queue.complete(current);
+            } else {
+                lost(current, worker);
+            }
+        }
+    }
+
+    // Worker chết giữa chừng (browser crash, OOM...): cho chạy lại một lần ở worker khác rồi mới báo lỗi
+    private void lost(WorkItem item, int worker) {
+        if (attempts.merge(item.id(), 1, Integer::sum) == 1) {
+            System.err.println("worker-" + worker + " exited while running " + item.id() + ", requeueing");
+            queue.requeue(item);
+        } else {
+            report.add(new TestOutcome(item.id(), worker, item.className(), item.method(), TestOutcome.Status.FAILED,
+                    0, "Worker exited while running this test twice, see worker-" + worker + ".log", null));
+            queue.complete(item);
+        }
+    }
+}
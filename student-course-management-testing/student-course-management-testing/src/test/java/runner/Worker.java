@@ -0,0 +1,139 @@
+package runner;
+
+import base.BaseTest;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.Config;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// JVM worker do WorkStealingRunner fork ra: xin việc từ coordinator, chạy bằng TestNG trong cùng JVM,
+// gửi kết quả về. Browser pool và app giả được giữ lại giữa các item, chỉ đóng khi hết việc.
+public class Worker {
+    private final int id;
+    private final Channel channel;
+
+    private Worker(int id, Channel channel) {
+        this.id = id;
+        this.channel = channel;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int id = Config.getInt("runner.worker", 0);
+        int port = Config.getInt("runner.port", 0);
+        try (Channel channel = new Channel(new Socket(InetAddress.getLoopbackAddress(), port))) {
+            new Worker(id, channel).run();
+        } finally {
+            BaseTest.closeSharedResources();
+            BaseTest.exportMetrics("driver-commands-worker-" + id);
+            PerfGate.appendJvm();
+        }
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        channel.send(Map.of("type", "hello", "worker", id));
+        while (true) {
+            channel.send(Map.of("type", "next", "worker", id));
+            Map<String, Object> reply = channel.receive();
+            if (reply == null || "done".equals(reply.get("type"))) {
+                return;
+            }
+            WorkItem item = WorkItem.fromMessage(reply);
+            long start = System.nanoTime();
+            List<TestOutcome> outcomes = execute(item);
+            for (TestOutcome outcome : outcomes) {
+                channel.send(outcome.toMessage());
+            }
+            channel.send(Map.of("type", "finished", "itemId", item.id(),
+                    "durationMillis", (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    private List<TestOutcome> execute(WorkItem item) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("worker-" + id);
+        XmlTest test = new XmlTest(suite);
+        test.setName(item.id());
+        XmlClass xmlClass = new XmlClass(item.className());
+        XmlInclude include = item.isSingleInvocation()
+                ? new XmlInclude(item.method(), List.of(item.invocation()), 0)
+                : new XmlInclude(item.method());
+        xmlClass.setIncludedMethods(List.of(include));
+        test.setXmlClasses(List.of(xmlClass));
+
+        Collector collector = new Collector(item);
+        TestNG testng = new TestNG(false);
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(collector);
+        try {
+            testng.run();
+        } catch (RuntimeException e) {
+            collector.outcomes.add(new TestOutcome(item.id(), id, item.className(), item.method(),
+                    TestOutcome.Status.FAILED, 0, String.valueOf(e.getMessage()), stackTrace(e)));
+        }
+        if (collector.outcomes.isEmpty()) {
+            // Thường là do @BeforeSuite / @BeforeClass lỗi nên TestNG không chạy được method nào
+            collector.outcomes.add(new TestOutcome(item.id(), id, item.className(), item.method(),
+                    TestOutcome.Status.SKIPPED, 0, "No test result reported, check worker-" + id + ".log", null));
+        }
+        return collector.outcomes;
+    }
+
+    private static String stackTrace(Throwable throwable) {
+        StringWriter trace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+
+    private class Collector implements ITestListener {
+        private final WorkItem item;
+        private final List<TestOutcome> outcomes = new ArrayList<>();
+
+        Collector(WorkItem item) {
+            this.item = item;
+        }
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            add(result, TestOutcome.Status.PASSED);
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            add(result, TestOutcome.Status.FAILED);
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            add(result, TestOutcome.Status.SKIPPED);
+        }
+
+        private synchronized void add(ITestResult result, TestOutcome.Status status) {
+            String name = result.getMethod().getMethodName();
+            if (result.getParameters().length > 0) {
+                name += Arrays.stream(result.getParameters()).map(String::valueOf).collect(Collectors.joining(", ", "(", ")"));
+            }
+            Throwable error = result.getThrowable();
+            outcomes.add(new TestOutcome(item.id(), id, result.getTestClass().getName(), name, status,
+                    result.getEndMillis() - result.getStartMillis(),
+                    error == null ? null : String.valueOf(error.getMessage()),
+                    error == null ? null : stackTrace(error)));
+        }
+    }
+}
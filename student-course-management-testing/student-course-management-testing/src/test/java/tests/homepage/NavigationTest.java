@@ -0,0 +1,25 @@
+package tests.homepage;
+
+import base.BaseTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+// Các test còn lại mở thẳng route; test này giữ đường đi thật từ trang chủ qua card Students Management
+public class NavigationTest extends BaseTest {
+
+    @Test
+    public void testNavigateToStudentsManagementFromHomePage() {
+        var studentPage = homePage().navigateToStudentsManagementPage();
+
+        Assert.assertTrue(studentPage.isAddStudentButtonVisible(), "Students Management page should show the Add Student button");
+    }
+
+    @Test
+    public void testOpenAddStudentModalFromHomePage() {
+        var studentPage = homePage().navigateToStudentsManagementPage();
+        var addFormPage = studentPage.navigateToAddStudentPage();
+
+        Assert.assertTrue(addFormPage.isModalVisible(), "Add Student modal should be visible");
+        Assert.assertEquals(addFormPage.getModalTitle(), "Add New Student", "Modal title should be 'Add New Student'");
+    }
+}
@@ -1,614 +1,177 @@
 package tests.students;
 
+import base.BackendStubs;
 import base.BaseTest;
+import data.PartitionCase;
+import data.PartitionSource;
+import fixtures.StudentPageStubs;
+import fixtures.TestDataFixture;
+import models.Student;
 import org.testng.Assert;
+import org.testng.asserts.Assertion;
+import org.testng.asserts.SoftAssert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import pages.students.FormSnapshot;
+import pages.students.FormStudentModal;
+import utils.Config;
+import utils.Timings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class AddFormTest extends BaseTest {
-
-    @Test
-    public void testValidPartition01() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        Assert.assertTrue(addFormPage.isModalVisible(), "Add Student modal should be visible");
-        Assert.assertEquals(addFormPage.getModalTitle(), "Add New Student", "Modal title should be 'Add New Student'");
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",           
-            "Hieu",           
-            "18",        
-            "Male",     
-            "minnhiuu@gmail.com", 
-            "0703553341",    
-            "CS201 - Data Structures and Algorithms",         
-            "2024-01-15"    
-        );
-        
-        addFormPage.clickSubmit();
-        
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition02() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",        
-            "Huy",     
-            "19",             
-            "Female",        
-            "minnhiuu@gmail.com", 
-            "0703553342",    
-            "CS201 - Data Structures and Algorithms",   
-            "2025-01-15"    
-        );
-        
-        addFormPage.clickSubmit();
-        
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition03() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",           
-            "Huy",     
-            "20",       
-            "Male",           
-            "minnhiuu@gmail.com",
-            "0703553343",     
-            "CS201 - Data Structures and Algorithms",          
-            "2026-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition04() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",      
-            "21",            
-            "Female",        
-            "minnhiuu@gmail.com", 
-            "0703553344",     
-            "CS201 - Data Structures and Algorithms",        
-            "2027-01-15"      
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition05() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",        
-            "22",           
-            "Female",        
-            "minnhiuu@gmail.com", 
-            "0703553345",   
-            "CS201 - Data Structures and Algorithms",        
-            "2028-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition06() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",           
-            "23",            
-            "Female",         
-            "minnhiuu@gmail.com",
-            "0703553346",    
-            "CS201 - Data Structures and Algorithms",         
-            "2029-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition07() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",           
-            "24",            
-            "Female",         
-            "minnhiuu@gmail.com",
-            "0703553347",    
-            "CS201 - Data Structures and Algorithms",         
-            "2030-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testValidPartition08() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",           
-            "25",            
-            "Female",         
-            "minnhiuu@gmail.com",
-            "0703553348",    
-            "CS201 - Data Structures and Algorithms",         
-            "2031-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testInvalidPartition01() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("@@@@@@@@"); // Invalid: contains special characters
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("26");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553349");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2032-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("first-name"), "First name validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("first-name"), 
-            "FirstName must follow the format [A-Za-z]", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition02() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        // Leave first name empty and fill other required fields
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("27");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553350");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2033-01-15");
-        
-        addFormPage.clickSubmit();
-
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("first-name"), "First name validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("first-name"),
-            "FirstName cannot be empty", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition03() throws InterruptedException {
-        // Test case 3: Invalid LastName format (@@@@@)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("@@@@@"); // Invalid: contains special characters
-        addFormPage.enterAge("28");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553351");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2034-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("last-name"), "Last name validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("last-name"),
-            "Lastname must follow the format [A-Za-z]", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition04() throws InterruptedException {
-        // Test case 4: Empty LastName
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        // Leave last name empty
-        addFormPage.enterAge("29");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553352");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2035-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("last-name"), "Last name validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("last-name"),
-            "LastName cannot be empty", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition05() throws InterruptedException {
-        // Test case 5: Negative Age (-15)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("-15"); // Invalid: negative age
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553353");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2036-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("age"), "Age validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("age"),
-            "Age must be a positive integer", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition06() throws InterruptedException {
-        // Test case 6: Empty Age
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        // Leave age empty
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553354");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2037-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("age"), "Age validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("age"),
-            "Age cannot be empty", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition07() throws InterruptedException {
-        // Test case 7: Gender not selected
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("32");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553355");
-        // Skip gender selection
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2038-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("gender"), "Gender validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("gender"),
-            "Gender must be selected", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition08() throws InterruptedException {
-        // Test case 8: Invalid Email format (hahaa@@@gmail.com)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("33");
-        addFormPage.enterEmail("hahaa@@@gmail.com"); // Invalid: multiple @ symbols
-        addFormPage.enterPhone("0703553356");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2039-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("email"), "Email validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("email"),
-            "Email must be in the correct format", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition09() throws InterruptedException {
-        // Test case 9: Empty Email
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("34");
-        // Leave email empty
-        addFormPage.enterPhone("0703553357");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2040-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("email"), "Email validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("email"),
-            "Email cannot be empty", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition10() throws InterruptedException {
-        // Test case 10: Invalid Phone format (12321@)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("35");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("12321@"); // Invalid: contains @ symbol
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2041-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("phone"), "Phone validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("phone"),
-            "Phone must be 10-12 digits and in the range [0-9]", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition11() throws InterruptedException {
-        // Test case 11: Empty Phone
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("36");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        // Leave phone empty
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2042-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("phone"), "Phone validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("phone"),
-            "Phone cannot be empty", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition12() throws InterruptedException {
-        // Test case 12: Course not selected
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("37");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553360");
-        addFormPage.selectFemaleGender();
-        // Skip course selection
-        addFormPage.enterEnrollmentDate("2043-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("course"), "Course validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("course"),
-            "Course must be selected", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testInvalidPartition13() throws InterruptedException {
-        // Test case 13: Enrollment Date not selected
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("38");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0703553361");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        // Skip enrollment date
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("enrollment-date"), "Enrollment date validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("enrollment-date"),
-            "Enrollment Date must be selected", "Correct validation message should be shown");
-    }
-
-    @Test
-    public void testValidBoundary1() throws InterruptedException {
-        // Test case 1: Valid boundary - Phone with 10 digits
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        // Fill form with valid boundary data (10-digit phone)
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",           
-            "39",            
-            "Female",         
-            "minnhiuu@gmail.com",
-            "0123456789",
-            "CS201 - Data Structures and Algorithms",         
-            "2040-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        
+    private static final Timings CASE_TIMINGS = Timings.of("partitions");
+    private static final Timings RESET_TIMINGS = Timings.of("partitions.modal_reset");
+    // -Dpartitions.reuseModal=true: các case chỉ lỗi validation chạy theo nhóm trên cùng một modal đang mở
+    // (testValidationGroup), bỏ qua driver.get + mở modal cho từng case. Đổi lại mỗi nhóm chỉ là một kết quả TestNG
+    private static final boolean REUSE_MODAL = Config.getBoolean("partitions.reuseModal", false);
+    private static final int GROUP_SIZE = Config.getInt("partitions.groupSize", 8);
+
+    private TestDataFixture fixture;
+    // Email của các case submit thành công, để xóa các sinh viên đã tạo qua UI sau khi chạy xong.
+    // Mỗi email được gắn thêm một tag riêng của lần chạy (uniqueEmail), nên chỉ xóa đúng những gì lần chạy này tạo,
+    // không đụng tới bản ghi cùng email của worker khác, lần chạy song song hay dữ liệu người khác nhập
+    private final Set<String> createdEmails = ConcurrentHashMap.newKeySet();
+    private final String emailTag = Long.toString(ThreadLocalRandom.current().nextLong(1L << 40, 1L << 45), 36);
+    private final AtomicInteger emailSequence = new AtomicInteger();
+    private long lastStudentIdBeforeRun;
+
+    // -Dpartitions=partitions/other.csv,/path/to/cases.json để chạy bộ case khác, -Dpartitions=tway để chạy case pairwise sinh tự động
+    @DataProvider(name = "partitions", parallel = true)
+    public Iterator<Object[]> partitions() {
+        return loadPartitions()
+                .filter(partition -> !REUSE_MODAL || partition.expectsSuccess())
+                .map(partition -> new Object[]{partition})
+                .iterator();
+    }
+
+    @DataProvider(name = "validationGroups", parallel = true)
+    public Iterator<Object[]> validationGroups() {
+        List<Object[]> groups = new ArrayList<>();
+        if (!REUSE_MODAL) {
+            return groups.iterator();
+        }
+        List<PartitionCase> invalid = loadPartitions().filter(partition -> !partition.expectsSuccess()).toList();
+        for (int from = 0; from < invalid.size(); from += GROUP_SIZE) {
+            groups.add(new Object[]{invalid.subList(from, Math.min(from + GROUP_SIZE, invalid.size()))});
+        }
+        return groups.iterator();
+    }
+
+    private static Stream<PartitionCase> loadPartitions() {
+        String sources = Config.get("partitions", "partitions/add-student.csv,partitions/add-student-boundaries.json");
+        return PartitionSource.load(Arrays.asList(sources.split(",")));
+    }
+
+    @Test(dataProvider = "partitions")
+    public void testPartition(PartitionCase partition) {
+        long start = System.nanoTime();
+        try {
+            // Case validation lỗi chỉ kiểm tra phía client: dùng dữ liệu giả thay cho backend thật
+            if (!partition.expectsSuccess()) {
+                BackendStubs.forTest(StudentPageStubs.clientOnly());
+            }
+            Student student = partition.expectsSuccess() ? uniqueEmail(partition.student()) : partition.student();
+            var addFormPage = navigator().openAddStudentModal();
+
+            addFormPage.fillStudentForm(student);
+            addFormPage.clickSubmit();
+
+            if (partition.expectsSuccess()) {
+                createdEmails.add(student.email());
+                verifySuccess(addFormPage, partition);
+            } else {
+                verifyValidationErrors(addFormPage, partition, new Assertion());
+            }
+        } finally {
+            CASE_TIMINGS.record(partition.id(), System.nanoTime() - start);
+        }
+    }
+
+    // Cả nhóm dùng chung một modal: giữa hai case form được xóa tại chỗ và kiểm tra lại (resetForReuse),
+    // chỉ tải lại trang khi modal đã mất. Case lỗi không dừng cả nhóm, mọi sai khác được báo cùng lúc ở cuối
+    @Test(dataProvider = "validationGroups")
+    public void testValidationGroup(List<PartitionCase> group) {
+        BackendStubs.forTest(StudentPageStubs.clientOnly());
+        SoftAssert softly = new SoftAssert();
+        FormStudentModal modal = null;
+        for (PartitionCase partition : group) {
+            long start = System.nanoTime();
+            try {
+                modal = prepareModal(modal, partition.student().gender() != null);
+                modal.fillStudentForm(partition.student());
+                modal.clickSubmit();
+                verifyValidationErrors(modal, partition, softly);
+            } catch (RuntimeException e) {
+                softly.fail(partition.id() + ": " + e.getMessage(), e);
+                // Không biết modal đang ở trạng thái nào: case sau mở lại từ đầu
+                modal = null;
+            } finally {
+                CASE_TIMINGS.record(partition.id(), System.nanoTime() - start);
+            }
+        }
+        softly.assertAll();
+    }
+
+    // Chỉ dùng cho case hợp lệ: thêm tag vào trước '@', email vẫn cùng lớp hợp lệ với email gốc
+    private Student uniqueEmail(Student student) {
+        String email = student.email();
+        int at = email.lastIndexOf('@');
+        String tagged = email.substring(0, at) + "." + emailTag + emailSequence.incrementAndGet() + email.substring(at);
+        return new Student(student.firstName(), student.lastName(), student.age(), student.gender(), tagged,
+                student.phone(), student.course(), student.enrollmentDate(), student.active());
+    }
+
+    private FormStudentModal prepareModal(FormStudentModal current, boolean keepGender) {
+        long start = System.nanoTime();
+        Optional<FormStudentModal> reused = current == null ? Optional.empty() : current.resetForReuse(keepGender);
+        if (reused.isPresent()) {
+            RESET_TIMINGS.record(reused.get() == current ? "in_place" : "reopen", System.nanoTime() - start);
+            return reused.get();
+        }
+        FormStudentModal fresh = navigator().openAddStudentModal();
+        RESET_TIMINGS.record(current == null ? "first_open" : "fresh_page", System.nanoTime() - start);
+        return fresh;
+    }
+
+    @BeforeClass(alwaysRun = true)
+    public void rememberExistingStudents() {
+        // Tạo sau @BeforeSuite để đọc đúng api.url khi chạy với app giả
+        fixture = new TestDataFixture();
+        lastStudentIdBeforeRun = fixture.lastStudentId();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteCreatedStudents() {
+        if (fixture != null) {
+            createdEmails.forEach(email -> fixture.deleteStudentsByEmail(email, lastStudentIdBeforeRun));
+        }
+    }
+
+    private void verifySuccess(FormStudentModal addFormPage, PartitionCase partition) {
         addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
 
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
+        FormSnapshot result = addFormPage.snapshot();
+        Assert.assertEquals(result.alertTitle(), "Success!", partition.id() + ": alert notification title should be 'Success!'");
+        Assert.assertEquals(result.alertMessage(), "Add student successful", partition.id() + ": success message should be 'Add student successful'");
+        Assert.assertFalse(result.modalVisible(), partition.id() + ": modal should be closed after successful submission");
     }
 
-    @Test
-    public void testValidBoundary2() throws InterruptedException {
-        // Test case 2: Valid boundary - Phone with 12 digits
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        // Fill form with valid boundary data (12-digit phone)
-        addFormPage.fillValidStudentForm(
-            "Minh",          
-            "Huy",           
-            "40",            
-            "Female",         
-            "minnhiuu@gmail.com",
-            "012345678912",
-            "CS201 - Data Structures and Algorithms",         
-            "2040-01-15"     
-        );
-        
-        addFormPage.clickSubmit();
-        
-        addFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(addFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(addFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(addFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(addFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
-
-        Assert.assertFalse(addFormPage.isModalVisible(), "Modal should be closed after successful submission");
-    }
-
-    @Test
-    public void testInvalidBoundary1() throws InterruptedException {
-        // Test case 1: Invalid boundary - Phone with 9 digits (too short)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-        
-        // Fill form with invalid boundary data (9-digit phone)
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("41");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("012345678");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2041-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("phone"), "Phone validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("phone"),
-            "Phone must be 10-12 digits and in the range [0-9]", "Correct validation message should be shown");
+    private void verifyValidationErrors(FormStudentModal addFormPage, PartitionCase partition, Assertion assertion) {
+        FormSnapshot result = addFormPage.snapshot();
+        assertion.assertTrue(result.modalVisible(), partition.id() + ": modal should stay open when validation fails");
+        assertion.assertEquals(result.title(), "Add New Student", partition.id() + ": modal title should be 'Add New Student'");
+        assertion.assertEquals(result.errors(), partition.expectedErrors(), partition.id() + ": validation messages");
     }
-
-    @Test
-    public void testInvalidBoundary2() throws InterruptedException {
-        // Test case 2: Invalid boundary - Phone with 13 digits (too long)
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
-
-        // Fill form with invalid boundary data (13-digit phone)
-        addFormPage.enterFirstName("Minh");
-        addFormPage.enterLastName("Huy");
-        addFormPage.enterAge("42");
-        addFormPage.enterEmail("minnhiuu@gmail.com");
-        addFormPage.enterPhone("0123456789123");
-        addFormPage.selectFemaleGender();
-        addFormPage.selectCourseByText("CS201 - Data Structures and Algorithms");
-        addFormPage.enterEnrollmentDate("2042-01-15");
-        
-        addFormPage.clickSubmit();
-        
-        Assert.assertTrue(addFormPage.isValidationErrorVisible("phone"), "Phone validation error should be visible");
-        Assert.assertEquals(addFormPage.getValidationErrorMessage("phone"),
-            "Phone must be 10-12 digits and in the range [0-9]", "Correct validation message should be shown");
-    }
-
 }
@@ -1,20 +1,38 @@
 package tests.students;
 
 import base.BaseTest;
+import fixtures.TestDataFixture;
+import models.Student;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import pages.students.FormSnapshot;
+
+import java.util.UUID;
 
 public class EditFormTest extends BaseTest {
+    private TestDataFixture fixture;
+
+    @BeforeClass(alwaysRun = true)
+    public void createFixture() {
+        fixture = new TestDataFixture();
+    }
 
     @Test
     public void testEditWithValidLastName() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var editFormPage = studentPage.navigateToEditStudentPage();
+        // Sinh viên riêng cho test này, tạo qua API thay vì phụ thuộc vào dữ liệu có sẵn
+        String email = "edit." + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        long studentId = fixture.seedStudent(Student.of("Minh", "Nguyen", "20", "Male", email,
+                "0703553341", "CS201 - Data Structures and Algorithms", "2024-01-15"));
+
+        var editFormPage = navigator().openEditStudentModal(studentId, email);
         
-        Assert.assertTrue(editFormPage.isModalVisible(), "Edit Student modal should be visible");
-        Assert.assertEquals(editFormPage.getModalTitle(), "Edit Student", "Modal title should be 'Edit Student'");
+        FormSnapshot opened = editFormPage.snapshot();
+        Assert.assertTrue(opened.modalVisible(), "Edit Student modal should be visible");
+        Assert.assertEquals(opened.title(), "Edit Student", "Modal title should be 'Edit Student'");
         
-        String originalLastName = editFormPage.getLastNameValue();
+        String originalLastName = opened.lastName();
         
         editFormPage.enterLastName("Huy");
         
@@ -25,12 +43,17 @@ public class EditFormTest extends BaseTest {
         editFormPage.clickUpdate();
         
         editFormPage.waitForSuccessMessage();
-        
-        Assert.assertTrue(editFormPage.isAlertNotificationVisible(), "Success alert notification should be visible");
-        Assert.assertTrue(editFormPage.isSuccessMessageVisible(), "Success message 'Add student successful' should be visible");
-        Assert.assertEquals(editFormPage.getAlertNotificationTitle(), "Success!", "Alert notification title should be 'Success!'");
-        Assert.assertEquals(editFormPage.getSuccessMessageText(), "Add student successful", "Success message should contain 'Add student successful'");
 
-        Assert.assertFalse(editFormPage.isModalVisible(), "Modal should be closed after successful submission");
+        FormSnapshot result = editFormPage.snapshot();
+        Assert.assertEquals(result.alertTitle(), "Success!", "Alert notification title should be 'Success!'");
+        Assert.assertEquals(result.alertMessage(), "Add student successful", "Success message should contain 'Add student successful'");
+        Assert.assertFalse(result.modalVisible(), "Modal should be closed after successful submission");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteSeededStudents() {
+        if (fixture != null) {
+            fixture.cleanup();
+        }
     }
 }
\ No newline at end of file
@@ -1,15 +1,23 @@
 package tests.students;
 
+import base.BackendStubs;
 import base.BaseTest;
+import fixtures.StudentPageStubs;
 import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 public class ModalTest extends BaseTest {
 
+    // Hủy/đóng modal không gửi gì lên backend: trang chạy trên dữ liệu giả, request ghi nào lọt ra sẽ bị chặn
+    @BeforeMethod
+    public void stubBackend() {
+        BackendStubs.forTest(StudentPageStubs.clientOnly());
+    }
+
     @Test
     public void testCancelAddStudent() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
+        var addFormPage = navigator().openAddStudentModal();
 
         addFormPage.enterFirstName("Minh");
         addFormPage.enterLastName("Huy");
@@ -24,8 +32,7 @@ public class ModalTest extends BaseTest {
 
     @Test
     public void testCloseAddStudentModal() throws InterruptedException {
-        var studentPage = homePage.navigateToStudentsManagementPage();
-        var addFormPage = studentPage.navigateToAddStudentPage();
+        var addFormPage = navigator().openAddStudentModal();
 
         addFormPage.enterFirstName("Minh");
         addFormPage.enterLastName("Huy");